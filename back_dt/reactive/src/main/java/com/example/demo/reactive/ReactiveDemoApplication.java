@@ -0,0 +1,16 @@
+package com.example.demo.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * 회원 가입/로그인 API를 WebFlux와 R2DBC로 구현한 애플리케이션.
+ * 서블릿 모듈과 같은 users 테이블, 같은 JWT 서명 키와 클레임을 사용하므로 두 스택이 발급한 토큰은 서로 호환됨.
+ */
+@SpringBootApplication
+public class ReactiveDemoApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveDemoApplication.class, args);
+    }
+}
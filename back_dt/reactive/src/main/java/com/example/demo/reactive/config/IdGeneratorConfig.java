@@ -0,0 +1,30 @@
+package com.example.demo.reactive.config;
+
+import com.example.demo.id.IdGenerator;
+import com.example.demo.id.SnowflakeIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 식별자 생성기 설정 클래스.
+ * 서블릿 모듈 인스턴스와 같은 users 테이블에 INSERT하므로 노드 ID가 겹치지 않도록 snowflake.node-id로 지정.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${snowflake.node-id}") int nodeId,
+                                   @Value("${snowflake.max-clock-drift:5s}") Duration maxClockDrift) {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(nodeId, maxClockDrift.toMillis(), System::currentTimeMillis);
+        log.info("Snowflake 노드 ID: {}", generator.getNodeId());
+        return generator;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.reactive.config;
+
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.reactive.jwt.JwtAuthenticationWebFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * WebFlux 보안 설정 클래스.
+ * 서블릿 모듈과 마찬가지로 세션 없이 요청마다 JWT로 인증하며, 회원 가입/로그인과 헬스 체크만 공개.
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    // 서블릿 모듈의 TokenProvider를 같은 설정 값으로 생성하여 서명 키와 클레임 형식을 공유
+    @Bean
+    public TokenProvider tokenProvider(@Value("${jwt.secret}") String secret,
+                                       @Value("${jwt.legacy-auth-claim:true}") boolean legacyAuthClaim) {
+        return new TokenProvider(secret, legacyAuthClaim);
+    }
+
+    // BCrypt는 이벤트 루프에서 호출하지 않고 PasswordHasher를 통해 전용 스케줄러에서 실행
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder();
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, TokenProvider tokenProvider) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                // 세션을 사용하지 않음
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/api/v1/user/any/**", "/actuator/health/**").permitAll()
+                        .anyExchange().authenticated())
+                // 인증 실패 시 401
+                .exceptionHandling(exceptionHandling ->
+                        exceptionHandling.authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterAt(new JwtAuthenticationWebFilter(tokenProvider), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
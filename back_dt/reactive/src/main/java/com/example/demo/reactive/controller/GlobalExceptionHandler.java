@@ -0,0 +1,48 @@
+package com.example.demo.reactive.controller;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.exception.ErrorResponse;
+import com.example.demo.dto.exception.common.InvalidParameterException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+/**
+ * CustomException을 ErrorCode에 정의된 상태 코드와 ErrorResponse로 변환하는 전역 예외 처리기.
+ * 서블릿 모듈의 GlobalExceptionHandler와 같은 응답 형식을 사용.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        ErrorResponse response = ErrorResponse.builder()
+                .status(errorCode.getStatus())
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+
+        // 요청 데이터 검증 실패인 경우 필드별 오류를 함께 반환
+        if (e instanceof InvalidParameterException invalidParameterException) {
+            response.setCustomFieldErrors(invalidParameterException.getErrors().getFieldErrors());
+        }
+        return new ResponseEntity<>(response, HttpStatus.valueOf(errorCode.getStatus()));
+    }
+
+    // @Valid 검증 실패는 서블릿 모듈과 같이 INVALID_PARAMETER로 응답 (WebExchangeBindException이 BindingResult를 구현)
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException e) {
+        return handleCustomException(new InvalidParameterException(e));
+    }
+
+    // 로그인 실패 시 401
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Void> handleAuthenticationException(AuthenticationException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.reactive.controller;
+
+import com.example.demo.dto.token.TokenDto;
+import com.example.demo.dto.user.LoginRequestDto;
+import com.example.demo.dto.user.SignUpRequestDto;
+import com.example.demo.reactive.service.ReactiveUserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 회원 관련 API를 처리하는 컨트롤러.
+ * 서블릿 모듈의 UserController와 같은 경로, 요청, 응답 형식을 사용.
+ * 요청 데이터 검증 실패는 WebExchangeBindException으로 GlobalExceptionHandler에서 처리.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/user")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+
+    /**
+     * 회원 가입 API
+     * @param requestDto 회원 가입 요청 DTO
+     * @return HttpStatus.OK와 함께 성공 메시지 반환
+     */
+    @PostMapping("/any/signup")
+    public Mono<ResponseEntity<String>> signup(@Valid @RequestBody SignUpRequestDto requestDto) {
+        return userService.signup(requestDto)
+                .thenReturn(new ResponseEntity<>("SUCCESS", HttpStatus.OK));
+    }
+
+    /**
+     * 로그인 API
+     * @param requestDto 로그인 요청 DTO
+     * @return HttpStatus.OK와 함께 TokenDto 반환 (Auth, Refresh 헤더에도 토큰 포함)
+     */
+    @PostMapping("/any/login")
+    public Mono<ResponseEntity<TokenDto>> doLogin(@Valid @RequestBody LoginRequestDto requestDto) {
+        return userService.doLogin(requestDto)
+                .map(tokenDto -> {
+                    HttpHeaders headers = new HttpHeaders();
+                    headers.add("Auth", tokenDto.getAccessToken());
+                    headers.add("Refresh", tokenDto.getRefreshToken());
+                    return new ResponseEntity<>(tokenDto, headers, HttpStatus.OK);
+                });
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.reactive.crypto;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * BCrypt 해시 생성과 비교를 이벤트 루프 밖의 전용 스케줄러에서 실행하는 클래스.
+ * 스레드 수와 대기 작업 수를 제한하여, 로그인이 몰려도 이벤트 루프와 메모리는 보호하고
+ * 대기열을 넘는 요청은 PASSWORD_HASHER_BUSY(503)로 바로 거절.
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${bcrypt.threads:0}") int threads,
+                          @Value("${bcrypt.queue-capacity:1000}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.scheduler = Schedulers.newBoundedElastic(
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), queueCapacity, "bcrypt");
+    }
+
+    /**
+     * 평문 비밀번호의 BCrypt 해시 생성.
+     */
+    public Mono<String> encode(String rawPassword) {
+        return offload(Mono.fromCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 평문 비밀번호와 저장된 해시 비교.
+     */
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return offload(Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> Mono<T> offload(Mono<T> work) {
+        return work.subscribeOn(scheduler)
+                .onErrorMap(RejectedExecutionException.class, e -> new CustomException(ErrorCode.PASSWORD_HASHER_BUSY));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
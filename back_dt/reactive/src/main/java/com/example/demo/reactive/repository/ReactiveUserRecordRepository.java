@@ -0,0 +1,36 @@
+package com.example.demo.reactive.repository;
+
+import com.example.demo.domain.UserRecord;
+import reactor.core.publisher.Mono;
+
+/**
+ * 회원 데이터 접근 인터페이스의 논블로킹 버전.
+ * 회원 가입과 로그인에 필요한 연산만 제공.
+ */
+public interface ReactiveUserRecordRepository {
+
+    /**
+     * 아이디로 회원 조회.
+     *
+     * @param username 사용자 아이디
+     * @return 회원 정보, 없으면 빈 Mono
+     */
+    Mono<UserRecord> findByUsername(String username);
+
+    /**
+     * 회원 저장.
+     * 아이디, 이메일, 닉네임이 중복되면 DataIntegrityViolationException으로 실패.
+     *
+     * @param user 저장할 회원 정보 (uid는 무시하고 새로 발급)
+     * @return 발급된 uid가 채워진 회원 정보
+     */
+    Mono<UserRecord> save(UserRecord user);
+
+    /**
+     * 리프레시 토큰 갱신.
+     *
+     * @param username 사용자 아이디
+     * @param token    리프레시 토큰
+     */
+    Mono<Void> updateToken(String username, String token);
+}
@@ -0,0 +1,77 @@
+package com.example.demo.reactive.repository.impl;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.enums.Role;
+import com.example.demo.id.IdGenerator;
+import com.example.demo.reactive.repository.ReactiveUserRecordRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * DatabaseClient 기반 회원 데이터 접근 구현체.
+ * 서블릿 모듈의 JdbcUserRecordRepository와 같은 SQL을 R2DBC 드라이버로 논블로킹 실행.
+ */
+@Repository
+@RequiredArgsConstructor
+public class R2dbcUserRecordRepository implements ReactiveUserRecordRepository {
+
+    private static final String SELECT_COLUMNS =
+            "select uid, username, user_pw, email, nickname, role, phone, token from users ";
+
+    private final DatabaseClient databaseClient;
+    private final IdGenerator idGenerator;
+
+    @Override
+    public Mono<UserRecord> findByUsername(String username) {
+        return databaseClient.sql(SELECT_COLUMNS + "where username = :username")
+                .bind("username", username)
+                .map(R2dbcUserRecordRepository::map)
+                .one();
+    }
+
+    @Override
+    public Mono<UserRecord> save(UserRecord user) {
+        // 생성된 키를 돌려받을 필요가 없도록 uid를 먼저 발급
+        long uid = idGenerator.nextId();
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                        "insert into users (uid, username, user_pw, email, nickname, role, phone, token) "
+                                + "values (:uid, :username, :pw, :email, :nickname, :role, :phone, :token)")
+                .bind("uid", uid)
+                .bind("username", user.username())
+                .bind("pw", user.pw())
+                .bind("email", user.email())
+                .bind("nickname", user.nickname());
+        spec = user.role() == null ? spec.bindNull("role", Integer.class) : spec.bind("role", user.role().ordinal());
+        spec = user.phone() == null ? spec.bindNull("phone", String.class) : spec.bind("phone", user.phone());
+        spec = user.token() == null ? spec.bindNull("token", String.class) : spec.bind("token", user.token());
+        return spec.then()
+                .thenReturn(new UserRecord(uid, user.username(), user.pw(), user.email(),
+                        user.nickname(), user.role(), user.phone(), user.token()));
+    }
+
+    @Override
+    public Mono<Void> updateToken(String username, String token) {
+        return databaseClient.sql("update users set token = :token where username = :username")
+                .bind("token", token)
+                .bind("username", username)
+                .then();
+    }
+
+    // role 컬럼은 JPA 기본 매핑(EnumType.ORDINAL)과 동일하게 순번으로 저장됨
+    // (tinyint이므로 드라이버에 따라 Byte, Short, Integer로 읽히므로 Number로 받음)
+    private static UserRecord map(Readable row) {
+        Number ordinal = (Number) row.get("role");
+        return new UserRecord(
+                row.get("uid", Long.class),
+                row.get("username", String.class),
+                row.get("user_pw", String.class),
+                row.get("email", String.class),
+                row.get("nickname", String.class),
+                ordinal == null ? null : Role.values()[ordinal.intValue()],
+                row.get("phone", String.class),
+                row.get("token", String.class));
+    }
+}
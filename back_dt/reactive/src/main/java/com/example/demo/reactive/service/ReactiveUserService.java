@@ -0,0 +1,29 @@
+package com.example.demo.reactive.service;
+
+import com.example.demo.dto.token.TokenDto;
+import com.example.demo.dto.user.LoginRequestDto;
+import com.example.demo.dto.user.SignUpRequestDto;
+import reactor.core.publisher.Mono;
+
+/**
+ * 회원 가입과 로그인을 처리하는 논블로킹 서비스 인터페이스.
+ */
+public interface ReactiveUserService {
+
+    /**
+     * 회원 가입.
+     * 중복된 아이디, 이메일, 닉네임이면 DuplicateIdException, DuplicateEmailException, DuplicateNicknameException으로 실패.
+     *
+     * @param dto 회원 가입 요청 DTO
+     */
+    Mono<Void> signup(SignUpRequestDto dto);
+
+    /**
+     * 로그인.
+     * 아이디가 없거나 비밀번호가 틀리면 BadCredentialsException으로 실패.
+     *
+     * @param dto 로그인 요청 DTO
+     * @return 발급된 JWT 토큰 정보
+     */
+    Mono<TokenDto> doLogin(LoginRequestDto dto);
+}
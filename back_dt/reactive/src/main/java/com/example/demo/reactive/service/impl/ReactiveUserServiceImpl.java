@@ -0,0 +1,119 @@
+package com.example.demo.reactive.service.impl;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.dto.exception.user.DuplicateEmailException;
+import com.example.demo.dto.exception.user.DuplicateIdException;
+import com.example.demo.dto.exception.user.DuplicateNicknameException;
+import com.example.demo.dto.token.TokenDto;
+import com.example.demo.dto.user.LoginRequestDto;
+import com.example.demo.dto.user.SignUpRequestDto;
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.reactive.crypto.PasswordHasher;
+import com.example.demo.reactive.repository.ReactiveUserRecordRepository;
+import com.example.demo.reactive.service.ReactiveUserService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    // 없는 아이디로 로그인할 때도 BCrypt 비교를 한 번 실행하여 응답 시간으로 아이디 존재 여부를 알 수 없게 함
+    // (서블릿 모듈의 DaoAuthenticationProvider와 같은 방식)
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final ReactiveUserRecordRepository userRecordRepository;
+    private final PasswordHasher passwordHasher;
+    private final TokenProvider tokenProvider;
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    // 최초 로그인 실패 시 한 번만 생성
+    private volatile Mono<String> userNotFoundEncodedPassword;
+
+    /**
+     * 회원 가입 처리 메서드
+     * 중복 체크 조회 없이 INSERT 한 번만 실행하고, 유니크 제약조건 위반으로 중복을 판별.
+     */
+    @Override
+    public Mono<Void> signup(SignUpRequestDto dto) {
+        return passwordHasher.encode(dto.getPw())
+                .map(encoded -> new UserRecord(
+                        null,
+                        dto.getId(),
+                        encoded,
+                        dto.getEmail(),
+                        dto.getNickname(),
+                        Role.USER,
+                        dto.getPhone(),
+                        null))
+                .flatMap(userRecordRepository::save)
+                .doOnNext(user -> log.info("회원가입이 완료되었습니다."))
+                // 위반한 제약조건에 해당하는 중복 예외로 변환
+                .onErrorMap(DataIntegrityViolationException.class, this::duplicateException)
+                .then();
+    }
+
+    /**
+     * 사용자 로그인 처리 메서드
+     * 비밀번호 비교 후 JWT 토큰을 발급하고 리프레시 토큰을 저장.
+     */
+    @Override
+    public Mono<TokenDto> doLogin(LoginRequestDto dto) {
+        return userRecordRepository.findByUsername(dto.getUsername())
+                .switchIfEmpty(Mono.defer(() -> mitigateTimingAttack(dto.getPw())))
+                .filterWhen(user -> passwordHasher.matches(dto.getPw(), user.pw()))
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다.")))
+                .flatMap(user -> {
+                    // 사용자의 역할로 JWT 토큰 생성
+                    TokenDto tokenDto = tokenProvider.generateTokenDto(user.username(),
+                            user.role() == null ? 0 : user.role().bit());
+                    // RefreshToken 저장 (엔티티 조회 없이 단일 UPDATE)
+                    return userRecordRepository.updateToken(user.username(), tokenDto.getRefreshToken())
+                            .thenReturn(tokenDto);
+                });
+    }
+
+    // 존재하지 않는 사용자에 대해 BCrypt 비교만 실행하고 빈 결과를 반환
+    private Mono<UserRecord> mitigateTimingAttack(String rawPassword) {
+        Mono<String> encoded = userNotFoundEncodedPassword;
+        if (encoded == null) {
+            encoded = passwordHasher.encode(USER_NOT_FOUND_PASSWORD).cache();
+            userNotFoundEncodedPassword = encoded;
+        }
+        return encoded.flatMap(hash -> passwordHasher.matches(rawPassword, hash))
+                .then(Mono.empty());
+    }
+
+    /**
+     * 유니크 제약조건 위반 예외를 중복된 값에 해당하는 예외로 변환.
+     * 서블릿 모듈과 같은 users 테이블의 제약조건 이름으로 판별.
+     */
+    private Throwable duplicateException(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (message.contains("uk_users_email")) {
+            log.info("중복된 Email이 이미 존재합니다.");
+            return new DuplicateEmailException();
+        }
+        if (message.contains("uk_users_nickname")) {
+            log.info("중복된 닉네임이 이미 존재합니다.");
+            return new DuplicateNicknameException();
+        }
+        if (message.contains("uk_users_username")) {
+            log.info("중복된 ID가 이미 존재합니다.");
+            return new DuplicateIdException();
+        }
+        // 중복이 아닌 무결성 오류는 그대로 전달
+        log.error("회원 저장 중 무결성 오류: {}", e.getMessage());
+        return e;
+    }
+}
@@ -0,0 +1,15 @@
+-- 내장 DB(H2)에서만 실행됨. MySQL에서는 서블릿 모듈(JPA)이 만든 users 테이블을 그대로 사용
+create table if not exists users (
+    uid bigint not null,
+    username varchar(255),
+    user_pw varchar(255),
+    email varchar(255),
+    nickname varchar(255),
+    role tinyint,
+    phone varchar(255),
+    token varchar(255),
+    primary key (uid),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email),
+    constraint uk_users_nickname unique (nickname)
+);
@@ -0,0 +1,97 @@
+package com.example.demo.reactive.controller;
+
+import com.example.demo.dto.token.TokenDto;
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.jwt.VerifiedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Test
+    void signupThenLoginIssuesServletCompatibleToken() {
+        signup("reactive1", "reactive1@test.com", "reactive1")
+                .expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("SUCCESS");
+
+        TokenDto tokenDto = login("reactive1", "Passw0rd1")
+                .expectStatus().isOk()
+                .expectHeader().exists("Auth")
+                .expectHeader().exists("Refresh")
+                .expectBody(TokenDto.class).returnResult().getResponseBody();
+
+        // 서블릿 모듈과 같은 키와 클레임으로 발급되었는지 확인
+        VerifiedToken verified = tokenProvider.verify(tokenDto.getAccessToken());
+        assertThat(verified.subject()).isEqualTo("reactive1");
+        assertThat(verified.roleMask()).isEqualTo(Role.USER.bit());
+    }
+
+    @Test
+    void duplicateValuesAreReportedByConstraint() {
+        signup("reactive2", "reactive2@test.com", "reactive2").expectStatus().isOk();
+
+        signup("reactive2", "other2@test.com", "other2")
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("U004");
+        signup("reactive3", "reactive2@test.com", "other3")
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("U002");
+        signup("reactive4", "other4@test.com", "reactive2")
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.code").isEqualTo("U003");
+    }
+
+    @Test
+    void invalidRequestReturnsFieldErrors() {
+        webTestClient.post().uri("/api/v1/user/any/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\":\"reactive5\",\"pw\":\"short\",\"email\":\"not-an-email\","
+                        + "\"nickname\":\"reactive5\",\"phone\":\"01012345678\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("U005")
+                .jsonPath("$.customFieldErrors.length()").isEqualTo(2);
+    }
+
+    @Test
+    void wrongPasswordOrUnknownUserIsUnauthorized() {
+        signup("reactive6", "reactive6@test.com", "reactive6").expectStatus().isOk();
+
+        login("reactive6", "Wrong0pass").expectStatus().isUnauthorized();
+        login("nobody", "Passw0rd1").expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void protectedRouteRequiresToken() {
+        webTestClient.get().uri("/api/v1/user/me").exchange().expectStatus().isUnauthorized();
+    }
+
+    private WebTestClient.ResponseSpec signup(String id, String email, String nickname) {
+        return webTestClient.post().uri("/api/v1/user/any/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"id\":\"" + id + "\",\"pw\":\"Passw0rd1\",\"email\":\"" + email
+                        + "\",\"nickname\":\"" + nickname + "\",\"phone\":\"01012345678\"}")
+                .exchange();
+    }
+
+    private WebTestClient.ResponseSpec login(String username, String pw) {
+        return webTestClient.post().uri("/api/v1/user/any/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"username\":\"" + username + "\",\"pw\":\"" + pw + "\"}")
+                .exchange();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.reactive.jwt;
+
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.TokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationWebFilterTest {
+
+    private static final String SECRET = "e13af114d471424d6c9f2b7d03c3e25e630f269fbb3587f35068cb7d253150f568812b114afd8fd6941a005cdcf64b8b8baec4ce9de512b6aaad9ba732c6eee4";
+
+    private final TokenProvider tokenProvider = tokenProvider();
+    private final JwtAuthenticationWebFilter filter = new JwtAuthenticationWebFilter(tokenProvider);
+
+    @Test
+    void validTokenIsExposedThroughReactorContext() {
+        String token = tokenProvider.generateTokenDto("user", Role.USER.bit() | Role.ADMIN.bit()).getAccessToken();
+
+        Authentication authentication = filterWith("Bearer " + token);
+
+        assertThat(authentication.getName()).isEqualTo("user");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("USER", "ADMIN");
+    }
+
+    @Test
+    void invalidOrMissingTokenLeavesContextEmpty() {
+        assertThat(filterWith("Bearer invalid")).isNull();
+        assertThat(filterWith(null)).isNull();
+    }
+
+    private Authentication filterWith(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/v1/user/me");
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        AtomicReference<Authentication> captured = new AtomicReference<>();
+        WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .doOnNext(captured::set)
+                .then();
+
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(request), chain)).verifyComplete();
+        return captured.get();
+    }
+
+    private static TokenProvider tokenProvider() {
+        TokenProvider tokenProvider = new TokenProvider(SECRET, false);
+        tokenProvider.afterPropertiesSet();
+        return tokenProvider;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.reactive.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 서블릿 모듈과 리액티브 모듈에 같은 부하를 주는 회원 가입/로그인 부하 드라이버.
+ * 사용자 users명을 가입시킨 뒤 사용자마다 logins번 로그인하며, 동시에 처리 중인 요청을 concurrency개로 유지.
+ * 드라이버 자체가 병목이 되지 않도록 비동기 HTTP 클라이언트로 요청을 보냄.
+ * <pre>
+ * ./gradlew :reactive:loadTest -PbaseUrl=http://localhost:8080 -Pconcurrency=64 -Pusers=2000 -Plogins=3
+ * </pre>
+ */
+public final class AuthLoadDriver {
+
+    private static final String PASSWORD = "Passw0rd1";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+    private final int concurrency;
+    // 이전 실행에서 가입한 사용자와 겹치지 않도록 실행마다 다른 접두사 사용
+    private final String runTag = Long.toString(System.currentTimeMillis() % 1_679_616, 36);
+
+    private AuthLoadDriver(String baseUrl, int concurrency) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8083";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int users = args.length > 2 ? Integer.parseInt(args[2]) : 2000;
+        int logins = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        AuthLoadDriver driver = new AuthLoadDriver(baseUrl, concurrency);
+        System.out.printf("target %s, concurrency %d, users %d, logins/user %d%n", baseUrl, concurrency, users, logins);
+        driver.run("signup", users, i -> driver.signup(i));
+        driver.run("login", users * logins, i -> driver.login(i % users));
+    }
+
+    private HttpRequest signup(int i) {
+        String id = "ld" + runTag + i;
+        String nickname = "n" + runTag + Integer.toString(i, 36);
+        return post("/api/v1/user/any/signup", "{\"id\":\"" + id + "\",\"pw\":\"" + PASSWORD + "\",\"email\":\""
+                + id + "@load.test\",\"nickname\":\"" + nickname + "\",\"phone\":\"01012345678\"}");
+    }
+
+    private HttpRequest login(int i) {
+        return post("/api/v1/user/any/login", "{\"username\":\"ld" + runTag + i + "\",\"pw\":\"" + PASSWORD + "\"}");
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    // 요청 count개를 동시 처리 수 concurrency로 보내고 처리량과 지연 분포를 출력
+    private void run(String phase, int count, IntFunction<HttpRequest> requests) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        long[] latencies = new long[count];
+        // 200이 아닌 응답의 상태 코드별 건수 (연결 오류는 -1)
+        Map<Integer, AtomicInteger> errors = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            permits.acquire();
+            int n = i;
+            long sent = System.nanoTime();
+            futures[i] = httpClient.sendAsync(requests.apply(i), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latencies[n] = System.nanoTime() - sent;
+                        int status = e != null ? -1 : response.statusCode();
+                        if (status != 200) {
+                            errors.computeIfAbsent(status, k -> new AtomicInteger()).incrementAndGet();
+                        }
+                        permits.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).exceptionally(e -> null).join();
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        System.out.printf("%-6s %7d req  %,9.0f req/s  p50 %7.1f ms  p99 %7.1f ms  max %7.1f ms  errors %s%n",
+                phase, count, count / (elapsed / 1e9),
+                latencies[count / 2] / 1e6, latencies[count * 99 / 100] / 1e6, latencies[count - 1] / 1e6,
+                new TreeMap<>(errors));
+    }
+}
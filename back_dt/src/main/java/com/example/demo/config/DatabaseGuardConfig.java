@@ -0,0 +1,21 @@
+package com.example.demo.config;
+
+import com.example.demo.resilience.DatabaseGuard;
+import com.example.demo.resilience.DatabaseGuardProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DB 호출 보호(bulkhead, 서킷 브레이커) 설정 클래스.
+ */
+@Configuration
+@EnableConfigurationProperties(DatabaseGuardProperties.class)
+public class DatabaseGuardConfig {
+
+    @Bean
+    public DatabaseGuard databaseGuard(DatabaseGuardProperties properties, MeterRegistry meterRegistry) {
+        return new DatabaseGuard(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.config;
+
+import com.example.demo.lifecycle.DrainProperties;
+import com.example.demo.lifecycle.GracefulDrain;
+import com.example.demo.lifecycle.InFlightRequestFilter;
+import com.example.demo.lifecycle.InFlightTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.catalina.connector.Connector;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 종료 전 드레인 설정 클래스.
+ * 처리 중인 요청 수를 세는 필터를 가장 바깥쪽에 등록하여 보안, SQL 집계 필터까지 포함한 전체 처리 시간을 추적.
+ */
+@Configuration
+@EnableConfigurationProperties(DrainProperties.class)
+public class DrainConfig {
+
+    @Bean
+    public InFlightTracker inFlightTracker(MeterRegistry meterRegistry) {
+        InFlightTracker tracker = new InFlightTracker();
+        Gauge.builder("app.inflight", tracker, InFlightTracker::getInFlight)
+                .description("처리 중인 요청과 백그라운드 작업 수")
+                .register(meterRegistry);
+        return tracker;
+    }
+
+    @Bean
+    public GracefulDrain gracefulDrain(InFlightTracker inFlightTracker, DrainProperties properties,
+                                       ApplicationContext applicationContext) {
+        return new GracefulDrain(inFlightTracker, properties, applicationContext,
+                () -> closeServerSockets(applicationContext));
+    }
+
+    // 새 연결은 연결 거부로 끝나 nginx가 요청을 보내기 전에 다른 인스턴스로 넘김 (기존 연결의 요청은 계속 처리)
+    // 이후 웹 서버 graceful shutdown도 같은 메서드를 호출하지만 이미 닫힌 소켓은 무시됨
+    private static void closeServerSockets(ApplicationContext applicationContext) {
+        if (applicationContext instanceof WebServerApplicationContext webContext
+                && webContext.getWebServer() instanceof TomcatWebServer tomcat) {
+            for (Connector connector : tomcat.getTomcat().getService().findConnectors()) {
+                connector.getProtocolHandler().closeServerSocketGraceful();
+            }
+        }
+    }
+
+    @Bean
+    public FilterRegistrationBean<InFlightRequestFilter> inFlightRequestFilter(InFlightTracker inFlightTracker,
+                                                                               ObjectMapper objectMapper) {
+        FilterRegistrationBean<InFlightRequestFilter> registration =
+                new FilterRegistrationBean<>(new InFlightRequestFilter(inFlightTracker, objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
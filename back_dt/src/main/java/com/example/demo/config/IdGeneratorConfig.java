@@ -0,0 +1,53 @@
+package com.example.demo.config;
+
+import com.example.demo.id.IdGenerator;
+import com.example.demo.id.IdGeneratorHolder;
+import com.example.demo.id.SnowflakeIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.time.Duration;
+
+/**
+ * 식별자 생성기 설정 클래스.
+ * 노드 ID는 인스턴스마다 달라야 하므로 snowflake.node-id(NODE_ID 환경 변수)로 지정하며,
+ * 지정하지 않으면 호스트 이름에서 계산하되 다른 인스턴스와 겹칠 수 있으므로 경고를 남김.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    @Bean
+    public IdGenerator idGenerator(@Value("${snowflake.node-id:}") String nodeId,
+                                   @Value("${snowflake.max-clock-drift:5s}") Duration maxClockDrift) {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(resolveNodeId(nodeId),
+                maxClockDrift.toMillis(), System::currentTimeMillis);
+        log.info("Snowflake 노드 ID: {}", generator.getNodeId());
+        // Hibernate가 생성하는 SnowflakeIdentifierGenerator에서 사용
+        IdGeneratorHolder.set(generator);
+        return generator;
+    }
+
+    private int resolveNodeId(String nodeId) {
+        if (StringUtils.hasText(nodeId)) {
+            return Integer.parseInt(nodeId.trim());
+        }
+        String hostname;
+        try {
+            hostname = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            hostname = "localhost";
+        }
+        int derived = Math.floorMod(hostname.hashCode(), SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        log.warn("snowflake.node-id가 지정되지 않아 호스트 이름({})에서 노드 ID {}를 계산했습니다. "
+                + "여러 인스턴스를 운영할 때는 NODE_ID를 인스턴스마다 다르게 지정하세요.", hostname, derived);
+        return derived;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.demo.config;
+
+import com.example.demo.idempotency.IdempotencyFilter;
+import com.example.demo.idempotency.IdempotencyProperties;
+import com.example.demo.idempotency.IdempotencyStore;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Idempotency-Key 설정 클래스.
+ * 재시도가 잦은 회원 가입, 로그인 경로에만 필터를 등록하며, 처리 중 요청 추적 필터 바로 다음, 보안 필터 앞에서 실행하여
+ * 저장된 응답을 돌려줄 때는 인증, SQL 집계 등 나머지 필터를 거치지 않음.
+ * 암호화 키가 필요하므로 idempotency.enabled=true로 명시한 경우에만 사용.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public IdempotencyStore idempotencyStore(IdempotencyRecordRepository repository,
+                                             PlatformTransactionManager transactionManager,
+                                             ObjectMapper objectMapper,
+                                             IdempotencyProperties properties) {
+        return new IdempotencyStore(repository, transactionManager, objectMapper, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                       ObjectMapper objectMapper,
+                                                                       IdempotencyProperties properties) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyStore, objectMapper, properties.maxBodySize().toBytes()));
+        registration.addUrlPatterns("/api/v1/user/any/signup", "/api/v1/user/any/login");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.config;
+
+import com.example.demo.web.CachingJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * JSON 직렬화 설정 클래스.
+ */
+@Configuration
+public class JacksonConfig {
+
+    // 리플렉션 대신 LambdaMetafactory로 생성한 접근자로 getter, setter, 생성자를 호출 (Module 빈은 ObjectMapper에 자동 등록)
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // 기본 MappingJackson2HttpMessageConverter 대신 응답 타입별 ObjectWriter를 재사용하는 컨버터를 등록
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new CachingJackson2HttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.config;
+
+import com.example.demo.metering.MeteringProperties;
+import com.example.demo.metering.UsageFlusher;
+import com.example.demo.metering.UsageMeter;
+import com.example.demo.repository.UsageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+
+/**
+ * 사용자별 API 사용량 집계 설정 클래스.
+ * JwtFilter가 인증된 요청마다 UsageMeter를 증가시키고, UsageFlusher가 증가분을 usage_counters 테이블에 주기적으로 반영.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "metering", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(MeteringProperties.class)
+public class MeteringConfig {
+
+    @Bean
+    public UsageMeter usageMeter(MeteringProperties properties, MeterRegistry meterRegistry) {
+        return new UsageMeter(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    @Bean
+    public UsageFlusher usageFlusher(UsageMeter usageMeter,
+                                     UsageRepository usageRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeteringProperties properties) {
+        return new UsageFlusher(usageMeter, usageRepository, transactionManager, properties);
+    }
+}
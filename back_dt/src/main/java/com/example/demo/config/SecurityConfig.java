@@ -1,9 +1,25 @@
 package com.example.demo.config;
 
+import com.example.demo.jfr.JfrPasswordEncoder;
+import com.example.demo.jwt.JwtAccessDeniedHandler;
+import com.example.demo.jwt.JwtAuthenticationEntryPoint;
+import com.example.demo.jwt.JwtSecurityConfig;
+import com.example.demo.jwt.RequireRole;
+import com.example.demo.jwt.RoleAuthorizationManager;
+import com.example.demo.jwt.RouteClassifier;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.metering.UsageMeter;
 import lombok.AllArgsConstructor;
-import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.Pointcuts;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -11,7 +27,9 @@ import org.springframework.security.config.annotation.web.configurers.CsrfConfig
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer.FrameOptionsConfig;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -25,10 +43,28 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @EnableWebSecurity
 public class SecurityConfig {
 
-    // BCryptPasswordEncoder 빈을 생성하여 암호화 관련 기능을 제공
+    private final TokenProvider tokenProvider;
+    private final RouteClassifier routeClassifier;
+    private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final ObjectProvider<UsageMeter> usageMeter;
+
+    // BCryptPasswordEncoder 빈을 생성하여 암호화 관련 기능을 제공 (JFR 녹화 시 PasswordVerificationEvent 기록)
+    @Bean
+    public PasswordEncoder bCryptPasswordEncoder() {
+        return new JfrPasswordEncoder(new BCryptPasswordEncoder());
+    }
+
+    // @RequireRole이 붙은 클래스나 메서드를 역할 비트마스크로 검사하는 메서드 보안 인터셉터
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requireRoleAuthorizationAdvisor() {
+        AuthorizationManagerBeforeMethodInterceptor interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+                Pointcuts.union(new AnnotationMatchingPointcut(RequireRole.class, true),
+                        new AnnotationMatchingPointcut(null, RequireRole.class, true)),
+                new RoleAuthorizationManager());
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder());
+        return interceptor;
     }
 
     // CORS 설정을 위한 CorsConfigurationSource 빈 추가
@@ -63,20 +99,13 @@ public class SecurityConfig {
                 // HTTP 요청에 대한 접근 제한 및 권한 설정
                 .authorizeHttpRequests(requests ->
                         requests
-                                // 특정 API 경로 및 스웨거 관련 리소스에 대한 요청은 모두 허용
-                                .requestMatchers(
-                                        "/api/v1/**/auth/**", // 인증 관련 API 경로
-                                        "/api/v1/**/any/**",  // 일반 API 경로
-                                        "/swagger-resources/**", // 스웨거 리소스
-                                        "/configuration/ui",    // 스웨거 UI 설정
-                                        "/configuration/security", // 스웨거 보안 설정
-                                        "/swagger-ui/**",       // 스웨거 UI 페이지
-                                        "/webjars/**",          // 웹 자원(JAR 파일)
-                                        "/v3/api-docs/**"       // 스웨거 3.0 이상 API 문서 엔드포인트
-                                ).permitAll() // 모든 사용자에게 허용
+                                // 인증 관련 API, 일반 API, 스웨거 리소스, 헬스 체크 등 공개 경로는 모두 허용
+                                // 공개 경로 목록은 JwtFilter와 같은 기준을 쓰도록 RouteClassifier에서 관리
+                                .requestMatchers(routeClassifier).permitAll()
 
                                 // H2 데이터베이스 콘솔 접근을 모두에게 허용
-                                .requestMatchers(PathRequest.toH2Console()).permitAll()
+                                // PathRequest.toH2Console()은 콘솔이 꺼져 있으면 인증이 필요한 모든 요청에서 빈 조회 예외를 내므로 경로로 지정
+                                .requestMatchers(AntPathRequestMatcher.antMatcher("/h2-console/**")).permitAll()
 
                                 // 그 외의 모든 요청은 인증 필요
                                 .anyRequest().authenticated()
@@ -86,6 +115,16 @@ public class SecurityConfig {
                 .sessionManagement(sessionManagement ->
                         sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
+
+                // 인증 실패 시 401, 권한 부족 시 403 응답
+                .exceptionHandling(exceptionHandling ->
+                        exceptionHandling
+                                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                                .accessDeniedHandler(jwtAccessDeniedHandler)
+                )
+
+                // JwtFilter를 UsernamePasswordAuthenticationFilter 앞에 등록
+                .with(new JwtSecurityConfig(tokenProvider, routeClassifier, usageMeter.getIfAvailable()), withDefaults())
                 .build(); // 보안 설정을 빌드하여 SecurityFilterChain 반환
     }
 }
@@ -0,0 +1,42 @@
+package com.example.demo.config;
+
+import com.example.demo.repository.shard.ShardDataSources;
+import com.example.demo.repository.shard.ShardRouter;
+import com.example.demo.repository.shard.ShardingProperties;
+import com.example.demo.sql.QueryProfilingListener;
+import com.example.demo.sql.SqlProfilingBeanPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+/**
+ * 회원 샤드 DB 설정 클래스. (sharded 프로필)
+ * 기본 DataSource(spring.datasource)는 그대로 두고, 회원 데이터만 sharding.shards에 나누어 저장.
+ */
+@Configuration
+@Profile("sharded")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ShardDataSources shardDataSources(ShardingProperties properties,
+                                             @Value("${spring.jdbc.template.query-timeout:3s}") Duration queryTimeout,
+                                             ObjectProvider<QueryProfilingListener> queryProfilingListener) {
+        // 기본 DataSource와 같은 쿼리 타임아웃을 적용하고, SQL 프로파일러가 켜져 있으면 샤드 쿼리도 db.query와 요청별 집계에 포함
+        QueryProfilingListener listener = queryProfilingListener.getIfAvailable();
+        return new ShardDataSources("shard", properties.shards(), properties.initializeSchema(), queryTimeout,
+                listener == null
+                        ? (name, dataSource) -> dataSource
+                        : (name, dataSource) -> SqlProfilingBeanPostProcessor.proxy(name, dataSource, listener));
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardDataSources shardDataSources) {
+        return shardDataSources.getRouter();
+    }
+}
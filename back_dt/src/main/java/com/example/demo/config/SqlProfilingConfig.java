@@ -0,0 +1,45 @@
+package com.example.demo.config;
+
+import com.example.demo.sql.QueryProfilingListener;
+import com.example.demo.sql.QueryStatsFilter;
+import com.example.demo.sql.SqlProfilingBeanPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * SQL 프로파일링 설정 클래스.
+ * DataSource를 datasource-proxy로 감싸고, 요청 단위 SQL 집계 필터를 보안 필터보다 앞에 등록.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "sql-profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingConfig {
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 static으로 선언
+    @Bean
+    public static SqlProfilingBeanPostProcessor sqlProfilingBeanPostProcessor(ObjectProvider<QueryProfilingListener> listener) {
+        return new SqlProfilingBeanPostProcessor(listener);
+    }
+
+    @Bean
+    public QueryProfilingListener queryProfilingListener(MeterRegistry meterRegistry,
+                                                         @Value("${sql-profiler.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        return new QueryProfilingListener(meterRegistry, slowQueryThreshold);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(MeterRegistry meterRegistry,
+                                                                     @Value("${sql-profiler.request-budget:10}") int requestBudget) {
+        FilterRegistrationBean<QueryStatsFilter> registration =
+                new FilterRegistrationBean<>(new QueryStatsFilter(meterRegistry, requestBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.config;
+
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.tokenserver.TokenServerProperties;
+import com.example.demo.tokenserver.TokenVerificationServer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+
+/**
+ * 바이너리 토큰 검증 서버 설정 클래스. (token-server.enabled=true 일 때만 등록)
+ * token-server.socket-path가 있으면 Unix 도메인 소켓, 없으면 127.0.0.1의 TCP 포트에 바인딩하며
+ * 외부 인터페이스에는 열지 않음.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "token-server", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TokenServerProperties.class)
+public class TokenServerConfig {
+
+    @Bean
+    public TokenVerificationServer tokenVerificationServer(TokenProvider tokenProvider, TokenServerProperties properties) {
+        SocketAddress address = StringUtils.hasText(properties.socketPath())
+                ? UnixDomainSocketAddress.of(properties.socketPath())
+                : new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.port());
+        return new TokenVerificationServer(tokenProvider, address, properties.workers(), properties.maxFrameLength(),
+                properties.maxInFlight(), properties.queueCapacity());
+    }
+}
@@ -1,15 +1,29 @@
 package com.example.demo.config;
 
+import com.example.demo.web.ContentHashEtagGenerator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
 
 @RequiredArgsConstructor
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    // 빌드 시 generateOpenApiDocs 태스크가 static/api-docs에 생성하는 문서 파일명
+    private static final String OPENAPI_DOCS_FILE = "openapi.json";
+
+    // springdoc 런타임 문서 생성 여부 (prod 프로필에서는 false)
+    @Value("${springdoc.api-docs.enabled:true}")
+    private boolean apiDocsEnabled;
+
     // CORS 설정을 추가합니다.
     @Override
     public void addCorsMappings(CorsRegistry registry){
@@ -32,6 +46,23 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addResourceHandler("/v3/api-docs/**")
                 .addResourceLocations("/v3/api-docs/")
                 .resourceChain(false); // 리소스 체인을 비활성화합니다.
+
+        // 빌드 시 생성한 OpenAPI 문서를 제공합니다. (Accept-Encoding: gzip이면 미리 압축한 .gz 파일을 그대로 전송)
+        registry.addResourceHandler("/api-docs/**")
+                .addResourceLocations("classpath:/static/api-docs/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .setUseLastModified(false) // 빌드마다 달라지므로 내용 해시 ETag로만 재검증합니다.
+                .setEtagGenerator(new ContentHashEtagGenerator())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+
+    // springdoc을 끈 경우 기존 문서 경로(/v3/api-docs)를 정적 문서로 연결합니다.
+    @Override
+    public void addViewControllers(ViewControllerRegistry registry) {
+        if (!apiDocsEnabled) {
+            registry.addViewController("/v3/api-docs").setViewName("forward:/api-docs/" + OPENAPI_DOCS_FILE);
+        }
     }
 
 }
\ No newline at end of file
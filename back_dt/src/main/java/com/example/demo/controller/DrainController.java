@@ -0,0 +1,66 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.admin.DrainStatusDto;
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.RequireRole;
+import com.example.demo.lifecycle.GracefulDrain;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 배포 전 인스턴스의 트래픽을 비우는 관리자 API.
+ * 드레인을 시작하면 readiness가 내려가 헬스 체크에서 제외되고, 처리 중인 요청 수가 0이 되면 안전하게 재시작 가능.
+ */
+@Tag(name = "Admin", description = "관리자 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/drain")
+@RequireRole(Role.ADMIN)
+public class DrainController {
+
+    private final GracefulDrain gracefulDrain;
+
+    /**
+     * 드레인 시작 API
+     * @return HttpStatus.ACCEPTED와 함께 드레인 상태 반환
+     */
+    @PostMapping
+    @Operation(summary = "드레인 시작", description = "readiness를 내리고 새 백그라운드 작업을 멈춤. 요청은 계속 처리.")
+    public ResponseEntity<DrainStatusDto> drain() {
+        gracefulDrain.startDrain();
+        return new ResponseEntity<>(status(), HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * 드레인 상태 조회 API
+     * @return HttpStatus.OK와 함께 드레인 상태 반환
+     */
+    @GetMapping
+    @Operation(summary = "드레인 상태 조회", description = "드레인 여부와 처리 중인 요청, 작업 수를 조회.")
+    public ResponseEntity<DrainStatusDto> getStatus() {
+        return new ResponseEntity<>(status(), HttpStatus.OK);
+    }
+
+    /**
+     * 드레인 취소 API
+     * @return HttpStatus.OK와 함께 드레인 상태 반환
+     */
+    @DeleteMapping
+    @Operation(summary = "드레인 취소", description = "readiness를 다시 올리고 트래픽을 받음.")
+    public ResponseEntity<DrainStatusDto> cancel() {
+        gracefulDrain.cancelDrain();
+        return new ResponseEntity<>(status(), HttpStatus.OK);
+    }
+
+    private DrainStatusDto status() {
+        return new DrainStatusDto(gracefulDrain.isDraining(), gracefulDrain.getInFlight());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.exception.ErrorResponse;
+import com.example.demo.dto.exception.common.InvalidParameterException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * CustomException을 ErrorCode에 정의된 상태 코드와 ErrorResponse로 변환하는 전역 예외 처리기.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ErrorResponse> handleCustomException(CustomException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        ErrorResponse response = ErrorResponse.builder()
+                .status(errorCode.getStatus())
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+
+        // 요청 데이터 검증 실패인 경우 필드별 오류를 함께 반환
+        if (e instanceof InvalidParameterException invalidParameterException) {
+            response.setCustomFieldErrors(invalidParameterException.getErrors().getFieldErrors());
+        }
+        return new ResponseEntity<>(response, HttpStatus.valueOf(errorCode.getStatus()));
+    }
+
+    /**
+     * 로그인 중 UserDetailsService에서 발생한 예외는 InternalAuthenticationServiceException으로 감싸지므로
+     * 원인이 CustomException(DB 장애 등)이면 해당 ErrorCode로 응답.
+     */
+    @ExceptionHandler(InternalAuthenticationServiceException.class)
+    public ResponseEntity<ErrorResponse> handleInternalAuthenticationServiceException(
+            InternalAuthenticationServiceException e) {
+        if (e.getCause() instanceof CustomException customException) {
+            return handleCustomException(customException);
+        }
+        throw e;
+    }
+}
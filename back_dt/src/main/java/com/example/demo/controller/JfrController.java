@@ -0,0 +1,68 @@
+package com.example.demo.controller;
+
+import com.example.demo.enums.Role;
+import com.example.demo.jfr.JfrRecordingService;
+import com.example.demo.jwt.RequireRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * JDK Flight Recorder 녹화를 제어하는 관리자 API.
+ */
+@Tag(name = "Admin", description = "관리자 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/jfr")
+@RequireRole(Role.ADMIN)
+public class JfrController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    /**
+     * JFR 녹화 시작 API
+     * @param seconds 녹화 시간(초), 생략 시 설정된 최대 시간
+     * @return HttpStatus.OK와 함께 적용된 녹화 시간 반환
+     */
+    @PostMapping("/start")
+    @Operation(summary = "JFR 녹화 시작", description = "제한된 시간과 크기의 JFR 녹화를 시작.")
+    public ResponseEntity<String> start(@RequestParam(required = false) Long seconds) {
+        Duration duration = jfrRecordingService.start(seconds == null ? null : Duration.ofSeconds(seconds));
+        return new ResponseEntity<>(duration.toString(), HttpStatus.OK);
+    }
+
+    /**
+     * JFR 녹화 종료 API
+     * @return 녹화된 .jfr 파일 스트림
+     */
+    @PostMapping("/stop")
+    @Operation(summary = "JFR 녹화 종료", description = "진행 중인 JFR 녹화를 종료하고 .jfr 파일을 반환.")
+    public ResponseEntity<StreamingResponseBody> stop() {
+        Path file = jfrRecordingService.stop();
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Files.copy(file, outputStream);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(file.getFileName().toString()).build());
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.exception.common.InvalidParameterException;
+import com.example.demo.dto.token.IntrospectionRequestDto;
+import com.example.demo.dto.token.IntrospectionResponseDto;
+import com.example.demo.service.TokenIntrospectionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 내부 서비스용 토큰 일괄 검증 API.
+ * JWT 인증 대신 X-Internal-Key 헤더의 내부 서비스 인증 키로 호출자를 확인.
+ */
+@Tag(name = "Internal", description = "내부 서비스 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/internal/token")
+public class TokenIntrospectionController {
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    /**
+     * 토큰 일괄 검증 API
+     * @param internalKey 내부 서비스 인증 키
+     * @param requestDto 검증할 토큰 목록
+     * @param result 요청 데이터의 검증 결과
+     * @return 요청 순서대로의 검증 결과와 Cache-Control 헤더
+     */
+    @PostMapping("/introspect")
+    @Operation(summary = "토큰 일괄 검증", description = "토큰 목록의 사용자, 권한, 만료시간과 유효 여부를 반환.")
+    public ResponseEntity<IntrospectionResponseDto> introspect(@RequestHeader(value = "X-Internal-Key", required = false) String internalKey,
+                                                               @Valid @RequestBody IntrospectionRequestDto requestDto,
+                                                               BindingResult result) {
+        tokenIntrospectionService.verifyInternalKey(internalKey);
+        if (result.hasErrors()) {
+            throw new InvalidParameterException(result);
+        }
+        IntrospectionResponseDto response = tokenIntrospectionService.introspect(requestDto.getTokens());
+        // 호출한 서비스만 결과를 재사용하도록 private 캐시로 제한
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(response.getMaxAgeSeconds())).cachePrivate())
+                .body(response);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.admin.UsageDto;
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.RequireRole;
+import com.example.demo.service.UsageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * 사용자별 API 사용량 조회 관리자 API.
+ */
+@Tag(name = "Admin", description = "관리자 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/usage")
+@RequireRole(Role.ADMIN)
+@ConditionalOnProperty(prefix = "metering", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UsageController {
+
+    private final UsageService usageService;
+
+    /**
+     * 사용량 조회 API
+     * @param principal 사용자 이름
+     * @param from 조회 시작 날짜 (UTC, 생략하면 오늘)
+     * @param to 조회 종료 날짜 (UTC, 포함, 생략하면 오늘)
+     * @return HttpStatus.OK와 함께 경로별 사용량 반환
+     */
+    @GetMapping
+    @Operation(summary = "사용량 조회", description = "사용자의 기간별, 경로별 호출 수와 일일 한도 초과 여부를 조회. (최대 92일)")
+    public ResponseEntity<UsageDto> getUsage(@RequestParam String principal,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        UsageDto usage = usageService.getUsage(principal,
+                from == null ? today : from, to == null ? today : to);
+        return new ResponseEntity<>(usage, HttpStatus.OK);
+    }
+}
@@ -5,6 +5,8 @@ import com.example.demo.dto.exception.user.DuplicateIdException;
 import com.example.demo.dto.token.TokenDto;
 import com.example.demo.dto.user.LoginRequestDto;
 import com.example.demo.dto.user.SignUpRequestDto;
+import com.example.demo.dto.user.SignUpStatusDto;
+import com.example.demo.service.SignUpQueueService;
 import com.example.demo.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -21,6 +23,8 @@ import org.springframework.validation.BindingResult;
 
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 /**
  * 회원 관련 API를 처리하는 컨트롤러.
  */
@@ -33,41 +37,48 @@ public class UserController {
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     private final UserService userService;
+    private final SignUpQueueService signUpQueueService;
 
     /**
      * 회원 가입 API
      * @param requestDto 회원 가입 요청 DTO
      * @param result 요청 데이터의 검증 결과
-     * @return HttpStatus.OK와 함께 성공 메시지 반환
+     * @return HttpStatus.OK와 함께 성공 메시지 반환,
+     *         대기열 가입 모드(signup.mode=queued)에서는 HttpStatus.ACCEPTED와 함께 처리 상태와 상태 조회 URL 반환
      * @throws InvalidParameterException 요청 데이터가 유효하지 않을 경우 발생
      * @throws DuplicateIdException 이미 존재하는 ID, Email, 닉네임일 경우 발생
      */
     @PostMapping("/any/signup")
     @Operation(summary = "회원 가입", description = "회원 정보를 통해 회원 가입을 처리.")
-    public ResponseEntity<String> signup(@Valid @RequestBody SignUpRequestDto requestDto, BindingResult result) {
+    public ResponseEntity<?> signup(@Valid @RequestBody SignUpRequestDto requestDto, BindingResult result) {
         // 요청 데이터의 유효성을 검사하고, 유효하지 않으면 InvalidParameterException 예외를 발생.
-        // DuplicateIdException : 회원 가입 시 입력한 ID, Email, 또는 닉네임이 이미 데이터베이스에 존재할 경우 발생시키는 예외
         if (result.hasErrors()) {
             throw new InvalidParameterException(result);
-        } else if (userService.checkId(requestDto.getId())) {
-            // 이미 존재하는 ID인 경우 DuplicateIdException 예외를 발생.
-            log.info("중복된 ID가 이미 존재합니다.");
-            throw new DuplicateIdException();
-        } else if (userService.checkEmail(requestDto.getEmail())) {
-            // 이미 존재하는 Email인 경우 DuplicateIdException 예외를 발생.
-            log.info("중복된 Email이 이미 존재합니다.");
-            throw new DuplicateIdException();
-        } else if (userService.checkNickname(requestDto.getNickname())) {
-            // 이미 존재하는 닉네임인 경우 DuplicateIdException 예외를 발생.
-            log.info("중복된 닉네임이 이미 존재합니다.");
-            throw new DuplicateIdException();
         }
-        // 모든 검증을 통과하면 UserService를 통해 회원 가입을 처리.
+        // 대기열 가입 모드에서는 요청을 저장만 하고 바로 응답. 중복 여부는 처리 결과로 확인.
+        if (signUpQueueService.isEnabled()) {
+            SignUpStatusDto status = signUpQueueService.enqueue(requestDto);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/user/any/signup/" + status.getRequestId()))
+                    .body(status);
+        }
+        // UserService를 통해 회원 가입을 처리. ID, Email, 닉네임이 이미 존재하면 DuplicateIdException 발생.
         userService.signup(requestDto);
         // 성공적으로 처리되었음을 나타내는 HttpStatus.OK와 "SUCCESS" 메시지를 반환.
         return new ResponseEntity<>("SUCCESS", HttpStatus.OK);
     }
 
+    /**
+     * 대기열 회원 가입 처리 상태 조회 API
+     * @param requestId 회원 가입 요청 식별자
+     * @return HttpStatus.OK와 함께 처리 상태 반환 (실패 시 code에 오류 코드)
+     */
+    @GetMapping("/any/signup/{requestId}")
+    @Operation(summary = "회원 가입 처리 상태 조회", description = "대기열 가입 모드에서 접수된 회원 가입 요청의 처리 상태를 조회.")
+    public ResponseEntity<SignUpStatusDto> signupStatus(@PathVariable String requestId) {
+        return new ResponseEntity<>(signUpQueueService.getStatus(requestId), HttpStatus.OK);
+    }
+
     /**
      * 로그인 API
      * @param requestDto 로그인 요청 DTO
@@ -0,0 +1,56 @@
+package com.example.demo.domain;
+
+import com.example.demo.enums.IdempotencyStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Idempotency-Key 요청의 처리 상태와 저장된 응답.
+ * 여러 노드가 같은 키를 동시에 받아도 기본 키 INSERT는 한 노드만 성공하므로 그 노드만 요청을 처리.
+ * 응답에는 토큰이 포함될 수 있으므로 AES-GCM으로 암호화하여 보관하고 만료 후 삭제.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "idempotency_keys", indexes = {
+        @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+public class IdempotencyRecord implements Persistable<String> {
+    // 메서드, 경로, Idempotency-Key의 SHA-256 (헤더 값을 그대로 저장하지 않음)
+    @Id
+    @Column(name = "id", length = 64)
+    private String id;
+
+    // 요청 본문의 HMAC (같은 키로 다른 요청을 보냈는지 판별)
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private IdempotencyStatus status;
+
+    // 암호화된 응답 (처리 중이면 null)
+    @Lob
+    @Column(name = "response")
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // 기존 행을 병합(UPDATE)하지 않고 항상 INSERT하여 기본 키 충돌로 선점 여부를 판별
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.domain;
+
+import com.example.demo.enums.SignUpStatus;
+import com.example.demo.id.SnowflakeId;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 대기열 가입 모드(signup.mode=queued)에서 워커가 처리할 회원 가입 요청.
+ * 비밀번호는 BCrypt 인코딩을 워커로 미루기 위해 AES-GCM으로 암호화하여 보관하고, 처리가 끝나면 삭제.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "signup_queue", indexes = {
+        @Index(name = "idx_signup_queue_status", columnList = "status, id"),
+        @Index(name = "idx_signup_queue_claim_token", columnList = "claim_token")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_signup_queue_request_id", columnNames = "request_id")
+})
+public class PendingSignUp {
+    @Id
+    @SnowflakeId
+    @Column(name = "id")
+    private Long id;
+
+    // 상태 조회 URL에 사용하는 외부 식별자
+    @Column(name = "request_id", nullable = false, length = 36)
+    private String requestId;
+
+    @Column(name = "username", nullable = false)
+    private String username;
+
+    // 암호화된 원본 비밀번호 (처리 후 null)
+    @Column(name = "encrypted_pw", length = 512)
+    private String encryptedPw;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "nickname")
+    private String nickname;
+
+    @Column(name = "phone")
+    private String phone;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private SignUpStatus status;
+
+    // 실패 시 ErrorCode 코드
+    @Column(name = "error_code", length = 16)
+    private String errorCode;
+
+    // 요청을 가져간 워커 배치 식별자
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public void complete() {
+        finish(SignUpStatus.COMPLETED, null);
+    }
+
+    public void fail(String errorCode) {
+        finish(SignUpStatus.FAILED, errorCode);
+    }
+
+    // 일시적인 오류로 처리하지 못한 요청을 대기 상태로 되돌림
+    public void release() {
+        this.status = SignUpStatus.PENDING;
+        this.claimToken = null;
+        this.claimedAt = null;
+        this.updatedAt = Instant.now();
+    }
+
+    private void finish(SignUpStatus status, String errorCode) {
+        this.status = status;
+        this.errorCode = errorCode;
+        this.encryptedPw = null;
+        this.updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 사용자, 경로, 집계 구간별 API 호출 수.
+ * 요청마다 쓰지 않고 UsageFlusher가 메모리 카운터의 증가분을 주기적으로 배치 UPSERT하므로
+ * 쓰기는 JdbcUsageRepository가 담당하며, 이 엔티티는 테이블 정의에 사용.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(UsageCounterId.class)
+@Table(name = "usage_counters")
+public class UsageCounter {
+    @Id
+    @Column(name = "principal", length = 255)
+    private String principal;
+
+    // "메서드 경로 패턴" (예: GET /api/v1/user/{id}), 매핑되지 않은 요청은 UNMATCHED
+    @Id
+    @Column(name = "route", length = 255)
+    private String route;
+
+    @Id
+    @Column(name = "bucket_start")
+    private Instant bucketStart;
+
+    @Column(name = "calls", nullable = false)
+    private long calls;
+}
@@ -0,0 +1,20 @@
+package com.example.demo.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+// UsageCounter 복합 키 (사용자, 경로, 구간 시작 시각)
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class UsageCounterId implements Serializable {
+    private String principal;
+    private String route;
+    private Instant bucketStart;
+}
@@ -1,6 +1,7 @@
 package com.example.demo.domain;
 
 import com.example.demo.enums.Role;
+import com.example.demo.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,7 +16,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // DB 왕복 없이 애플리케이션에서 시간순 식별자를 발급하여 INSERT를 배치로 묶음
+    @SnowflakeId
     @Column(name = "uid")
     private Long uid;
 
@@ -0,0 +1,46 @@
+package com.example.demo.domain;
+
+import com.example.demo.enums.Role;
+
+/**
+ * users 테이블 한 행을 그대로 담는 불변 레코드.
+ * 영속성 컨텍스트 없이 조회 결과를 전달할 때 사용.
+ */
+public record UserRecord(
+        Long uid,
+        String username,
+        String pw,
+        String email,
+        String nickname,
+        Role role,
+        String phone,
+        String token
+) {
+
+    // User 엔티티를 레코드로 변환
+    public static UserRecord from(User user) {
+        return new UserRecord(
+                user.getUid(),
+                user.getUsername(),
+                user.getPw(),
+                user.getEmail(),
+                user.getNickname(),
+                user.getRole(),
+                user.getPhone(),
+                user.getToken());
+    }
+
+    // 레코드를 User 엔티티로 변환
+    public User toEntity() {
+        return User.builder()
+                .uid(uid)
+                .username(username)
+                .pw(pw)
+                .email(email)
+                .nickname(nickname)
+                .role(role)
+                .phone(phone)
+                .token(token)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DrainStatusDto {
+    // 드레인 중 여부 (readiness가 REFUSING_TRAFFIC)
+    private boolean draining;
+    // 처리 중인 요청과 백그라운드 작업 수
+    private int inFlight;
+}
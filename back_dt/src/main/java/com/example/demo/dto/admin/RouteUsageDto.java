@@ -0,0 +1,15 @@
+package com.example.demo.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteUsageDto {
+    // "메서드 경로 패턴" 형태의 경로
+    private String route;
+    // 기간 내 호출 수
+    private long calls;
+}
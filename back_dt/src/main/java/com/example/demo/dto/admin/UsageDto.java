@@ -0,0 +1,26 @@
+package com.example.demo.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UsageDto {
+    private String principal;
+    // 조회 기간 (UTC 날짜, 양 끝 포함)
+    private LocalDate from;
+    private LocalDate to;
+    // 기간 내 전체 호출 수
+    private long totalCalls;
+    // 경로별 호출 수 (호출 수 내림차순)
+    private List<RouteUsageDto> routes;
+    // 오늘 이 노드에서 집계한 호출 수와 일일 한도 (0이면 무제한)
+    private long todayCalls;
+    private long dailyQuota;
+    private boolean overQuota;
+}
@@ -12,7 +12,26 @@ public enum ErrorCode {
     DUPLICATE_NICKNAME(400, "U003", "이미 존재하는 별명입니다."),
     DUPLICATE_ID(400, "U004", "이미 존재하는 아이디입니다."),
     INVALID_PARAMETER(400, "U005", "잘못된 요청입니다."),
-    POST_NOT_FOUND(404,"U006","게시글이 존재하지 않습니다.");
+    POST_NOT_FOUND(404,"U006","게시글이 존재하지 않습니다."),
+    SIGNUP_REQUEST_NOT_FOUND(404, "U007", "회원가입 요청을 찾을 수 없습니다."),
+    SIGNUP_FAILED(500, "U008", "회원가입 처리에 실패했습니다."),
+
+    LOOKUP_TIMEOUT(503, "S001", "요청 처리 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요."),
+    DB_UNAVAILABLE(503, "S002", "데이터베이스를 일시적으로 사용할 수 없습니다."),
+    DB_BUSY(503, "S003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    PASSWORD_HASHER_BUSY(503, "S004", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    SHUTTING_DOWN(503, "S005", "서버가 종료 중입니다. 잠시 후 다시 시도해 주세요."),
+
+    JFR_ALREADY_RUNNING(409, "A001", "이미 JFR 녹화가 진행 중입니다."),
+    JFR_NOT_RUNNING(409, "A002", "진행 중인 JFR 녹화가 없습니다."),
+
+    INVALID_INTERNAL_KEY(401, "I001", "내부 서비스 인증 키가 올바르지 않습니다."),
+    INTROSPECTION_BATCH_TOO_LARGE(400, "I002", "한 번에 검증할 수 있는 토큰 수를 초과했습니다."),
+
+    INVALID_IDEMPOTENCY_KEY(400, "K001", "Idempotency-Key 형식이 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(422, "K002", "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_KEY_IN_PROGRESS(409, "K003", "같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해 주세요."),
+    IDEMPOTENT_BODY_TOO_LARGE(413, "K004", "Idempotency-Key 요청의 본문이 너무 큽니다.");
 
     private final int status;
     private final String code;
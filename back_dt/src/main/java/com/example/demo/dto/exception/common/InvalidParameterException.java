@@ -2,9 +2,11 @@ package com.example.demo.dto.exception.common;
 
 import com.example.demo.dto.exception.CustomException;
 import com.example.demo.dto.exception.ErrorCode;
+import lombok.Getter;
 import org.springframework.validation.Errors;
 
 //BindingResult를 만들어 주는 역할
+@Getter
 public class InvalidParameterException extends CustomException {
 
     private final Errors errors;
@@ -0,0 +1,19 @@
+package com.example.demo.dto.token;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "토큰 일괄 검증 요청 Dto")
+public class IntrospectionRequestDto {
+    @NotEmpty(message = "검증할 토큰 목록은 필수입니다.")
+    private List<@NotBlank String> tokens;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class IntrospectionResponseDto {
+    // 요청한 토큰 순서와 같은 순서의 검증 결과
+    private List<TokenIntrospectionDto> results;
+    // 결과를 캐시해도 되는 시간(초), Cache-Control max-age와 동일
+    private long maxAgeSeconds;
+}
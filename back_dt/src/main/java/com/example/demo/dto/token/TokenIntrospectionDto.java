@@ -0,0 +1,32 @@
+package com.example.demo.dto.token;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionDto {
+    // 서명과 만료 검증 통과 여부
+    private boolean active;
+    // 토큰 발급 대상 사용자 아이디
+    private String subject;
+    // 권한 목록
+    private List<String> authorities;
+    // 액세스 토큰 만료시간
+    private Long expiresAt;
+
+    private static final TokenIntrospectionDto INACTIVE = new TokenIntrospectionDto(false, null, null, null);
+
+    // 유효하지 않은 토큰의 검증 결과 (상태가 없으므로 공유)
+    public static TokenIntrospectionDto inactive() {
+        return INACTIVE;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.dto.user;
+
+import com.example.demo.domain.PendingSignUp;
+import com.example.demo.enums.SignUpStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "대기열 회원가입 처리 상태 Dto")
+public class SignUpStatusDto {
+    // 가입 요청 식별자
+    private String requestId;
+    // 처리 상태
+    private SignUpStatus status;
+    // 실패 시 오류 코드 (ErrorCode)
+    private String code;
+
+    public static SignUpStatusDto from(PendingSignUp pendingSignUp) {
+        return new SignUpStatusDto(pendingSignUp.getRequestId(), pendingSignUp.getStatus(), pendingSignUp.getErrorCode());
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.enums;
+
+public enum IdempotencyStatus {
+    // 첫 요청을 처리 중
+    IN_PROGRESS,
+    // 응답 저장 완료
+    COMPLETED
+}
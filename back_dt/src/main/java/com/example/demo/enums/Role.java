@@ -1,5 +1,10 @@
 package com.example.demo.enums;
 
 public enum Role {
-    USER, ADMIN
-}
\ No newline at end of file
+    USER, ADMIN;
+
+    // 토큰의 역할 비트마스크에서 사용하는 비트 (DB와 마찬가지로 ordinal 기반이므로 상수 순서를 바꾸지 말 것)
+    public int bit() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.enums;
+
+public enum SignUpStatus {
+    // 처리 대기
+    PENDING,
+    // 워커가 처리 중
+    PROCESSING,
+    // 가입 완료
+    COMPLETED,
+    // 가입 실패 (중복 등)
+    FAILED
+}
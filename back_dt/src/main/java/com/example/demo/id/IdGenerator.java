@@ -0,0 +1,15 @@
+package com.example.demo.id;
+
+/**
+ * DB 왕복 없이 식별자를 발급하는 생성기.
+ * 구현체는 여러 스레드에서 동시에 호출해도 안전해야 함.
+ */
+public interface IdGenerator {
+
+    /**
+     * 새 식별자를 발급.
+     *
+     * @return 같은 생성기에서 이전에 발급한 값보다 큰 식별자
+     */
+    long nextId();
+}
@@ -0,0 +1,25 @@
+package com.example.demo.id;
+
+/**
+ * Hibernate가 직접 생성하는 식별자 생성기(SnowflakeIdentifierGenerator)에
+ * 스프링 빈으로 구성한 IdGenerator를 전달하기 위한 정적 보관소.
+ */
+public final class IdGeneratorHolder {
+
+    private static volatile IdGenerator generator;
+
+    private IdGeneratorHolder() {
+    }
+
+    public static void set(IdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+
+    public static IdGenerator get() {
+        IdGenerator current = generator;
+        if (current == null) {
+            throw new IllegalStateException("IdGenerator가 아직 구성되지 않았습니다.");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 식별자를 Snowflake 방식으로 발급하도록 지정.
+ * 기존 IDENTITY로 발급된 작은 값과 겹치지 않으므로 컬럼 타입(bigint)만 맞으면 기존 행과 함께 사용 가능.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,94 @@
+package com.example.demo.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식의 64비트 식별자 생성기.
+ * 부호 비트(1) | 에포크 기준 밀리초(41) | 노드 ID(10) | 시퀀스(12) 로 구성되어 발급 시각 순으로 정렬되므로
+ * B-tree 기본 키 인덱스에 항상 끝부분으로 삽입됨.
+ * 마지막 발급 상태(밀리초와 시퀀스)를 AtomicLong 하나에 담아 CAS로 갱신하므로 락 없이 동작.
+ * <p>
+ * 같은 밀리초에 시퀀스를 모두 쓰거나 시계가 뒤로 이동하면 마지막 발급 시각에 이어서 발급하여
+ * 중복이나 역순 없이 계속 증가시키고, 실제 시각보다 maxDriftMillis 이상 앞서게 되면 발급을 거부.
+ */
+public final class SnowflakeIdGenerator implements IdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    public static final long EPOCH = 1704067200000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long DEFAULT_MAX_DRIFT_MILLIS = 5_000;
+
+    private final int nodeId;
+    private final long nodeBits;
+    private final long maxDriftMillis;
+    private final LongSupplier clock;
+
+    // 마지막으로 발급한 (에포크 기준 밀리초 << SEQUENCE_BITS | 시퀀스)
+    private final AtomicLong last = new AtomicLong();
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, DEFAULT_MAX_DRIFT_MILLIS, System::currentTimeMillis);
+    }
+
+    /**
+     * @param nodeId 인스턴스마다 다르게 지정하는 노드 ID (0 ~ 1023)
+     * @param maxDriftMillis 시계가 뒤로 이동했을 때 마지막 발급 시각에 이어서 발급할 수 있는 최대 간격
+     * @param clock 현재 시각(밀리초) 공급자
+     */
+    public SnowflakeIdGenerator(int nodeId, long maxDriftMillis, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+        this.maxDriftMillis = maxDriftMillis;
+        this.clock = clock;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH;
+            long prev = last.get();
+            // 새 밀리초면 시퀀스 0부터, 아니면 마지막 상태 + 1 (시퀀스가 넘치면 다음 밀리초로 넘어감)
+            long next = Math.max(now << SEQUENCE_BITS, prev + 1);
+            long timestamp = next >>> SEQUENCE_BITS;
+            if (timestamp - now > maxDriftMillis) {
+                throw new IllegalStateException("시계가 " + (timestamp - now) + "ms 뒤로 이동하여 ID를 발급할 수 없습니다.");
+            }
+            if (last.compareAndSet(prev, next)) {
+                return timestamp << (NODE_BITS + SEQUENCE_BITS) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 식별자에 담긴 발급 시각.
+     *
+     * @param id Snowflake 식별자
+     * @return 발급 시각 (epoch millis)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    /**
+     * 식별자를 발급한 노드 ID.
+     *
+     * @param id Snowflake 식별자
+     * @return 노드 ID
+     */
+    public static int nodeIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * @SnowflakeId가 붙은 엔티티 식별자를 INSERT 전에 애플리케이션에서 발급하는 Hibernate 생성기.
+ * IDENTITY와 달리 INSERT 결과로 키를 받아올 필요가 없으므로 hibernate.jdbc.batch_size에 따라 INSERT를 묶어 실행.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return IdGeneratorHolder.get().nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
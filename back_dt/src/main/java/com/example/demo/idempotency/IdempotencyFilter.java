@@ -0,0 +1,265 @@
+package com.example.demo.idempotency;
+
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청의 응답을 저장하고, 같은 키의 재시도에는 핸들러를 다시 실행하지 않고 저장된 응답을 반환하는 필터.
+ * 타임아웃 후 클라이언트나 nginx가 회원 가입, 로그인을 재시도해도 BCrypt와 중복 체크가 다시 실행되지 않고
+ * 첫 요청이 성공했는데 재시도가 중복 오류를 받는 일이 없음.
+ * 같은 키로 본문이 다른 요청은 422, 첫 요청이 대기 시간 안에 끝나지 않으면 409로 응답.
+ * 본문을 메모리에 읽어 비교하므로 최대 크기를 넘는 본문은 읽기 전에(또는 한도까지만 읽고) 413으로 거절.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // 저장된 응답으로 처리했음을 알리는 헤더
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    // 응답과 함께 저장하는 헤더 (로그인 토큰, 대기열 가입 상태 조회 URL)
+    private static final List<String> STORED_HEADERS = List.of("Auth", "Refresh", HttpHeaders.LOCATION);
+    // 같은 요청을 다시 보내면 결과가 달라질 수 있어 저장하지 않는 상태 코드
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(401, 403, 408, 409, 425, 429);
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper, long maxBodyBytes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = (int) Math.min(maxBodyBytes, Integer.MAX_VALUE - 1);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String key = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (!isValidKey(key)) {
+            writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY);
+            return;
+        }
+        // 본문으로 요청 동일성을 판별한 뒤 같은 본문을 다음 필터에 전달
+        // (Content-Length가 없는 chunked 요청도 한도 + 1바이트까지만 읽음)
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            writeError(response, ErrorCode.IDEMPOTENT_BODY_TOO_LARGE);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            writeError(response, ErrorCode.IDEMPOTENT_BODY_TOO_LARGE);
+            return;
+        }
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+        String id = store.keyId(request.getMethod(), request.getRequestURI(), key);
+        String fingerprint = store.fingerprint(body);
+
+        IdempotencyOutcome outcome;
+        try {
+            outcome = store.begin(id, fingerprint);
+        } catch (DataAccessException e) {
+            // 공유 테이블 장애가 회원 가입, 로그인을 막지 않도록 키 없이 처리
+            log.warn("Idempotency 저장소를 사용할 수 없어 키 없이 처리합니다: {}", e.getMessage());
+            chain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        switch (outcome.type()) {
+            case REPLAY -> replay(response, outcome.response());
+            case MISMATCH -> writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(response, ErrorCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+            }
+            case CLAIMED -> process(cachedRequest, response, chain, id, fingerprint);
+        }
+    }
+
+    // 핸들러를 실행하고 다시 보내도 같은 결과인 응답만 저장
+    private void process(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                         String id, String fingerprint) throws ServletException, IOException {
+        CapturingResponseWrapper wrapper = new CapturingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, wrapper);
+            if (isStorable(wrapper)) {
+                store.complete(id, fingerprint, capture(wrapper));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(id);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // 서버 오류, 일시적인 거절, 오류 페이지로 위임된 응답(sendError)은 재시도 시 다시 처리
+    private static boolean isStorable(CapturingResponseWrapper wrapper) {
+        int status = wrapper.getStatus();
+        return !wrapper.isErrorSent() && status >= 200 && status < 500 && !TRANSIENT_STATUSES.contains(status);
+    }
+
+    private static StoredResponse capture(CapturingResponseWrapper wrapper) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : STORED_HEADERS) {
+            String value = wrapper.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return new StoredResponse(wrapper.getStatus(), wrapper.getContentType(), headers, wrapper.getContentAsByteArray());
+    }
+
+    private static void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        stored.headers().forEach(response::setHeader);
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(errorCode.getStatus())
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+        response.setStatus(errorCode.getStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    // 출력 가능한 ASCII 문자만 허용 (UUID 등)
+    private static boolean isValidKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 미리 읽은 본문을 다시 제공하는 요청 래퍼.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? encoding : StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    /**
+     * sendError 호출 여부를 기록하는 응답 래퍼.
+     * sendError 응답의 본문은 이 필터가 끝난 뒤 오류 페이지에서 만들어지므로 저장할 수 없음.
+     */
+    private static class CapturingResponseWrapper extends ContentCachingResponseWrapper {
+
+        private boolean errorSent;
+
+        CapturingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            errorSent = true;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            errorSent = true;
+            super.sendError(sc, msg);
+        }
+
+        boolean isErrorSent() {
+            return errorSent;
+        }
+    }
+}
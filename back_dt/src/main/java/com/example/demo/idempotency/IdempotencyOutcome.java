@@ -0,0 +1,29 @@
+package com.example.demo.idempotency;
+
+/**
+ * IdempotencyStore.begin의 결과.
+ *
+ * @param type     결과 종류
+ * @param response REPLAY일 때 저장된 응답
+ */
+public record IdempotencyOutcome(Type type, StoredResponse response) {
+
+    public enum Type {
+        // 이 요청이 처리를 맡음 (끝나면 complete 또는 release 호출)
+        CLAIMED,
+        // 같은 요청의 저장된 응답을 돌려줌
+        REPLAY,
+        // 같은 키로 다른 요청을 보냄
+        MISMATCH,
+        // 같은 키의 요청이 대기 시간 안에 끝나지 않음
+        IN_PROGRESS
+    }
+
+    static final IdempotencyOutcome CLAIMED = new IdempotencyOutcome(Type.CLAIMED, null);
+    static final IdempotencyOutcome MISMATCH = new IdempotencyOutcome(Type.MISMATCH, null);
+    static final IdempotencyOutcome IN_PROGRESS = new IdempotencyOutcome(Type.IN_PROGRESS, null);
+
+    static IdempotencyOutcome replay(StoredResponse response) {
+        return new IdempotencyOutcome(Type.REPLAY, response);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key 처리 설정. (idempotency.*)
+ *
+ * @param enabled         사용 여부 (기본값 false, 켜려면 encryptionKey도 지정)
+ * @param ttl             응답을 저장해 두고 재시도에 재사용하는 기간
+ * @param maxEntries      메모리에 보관하는 최대 응답 수 (초과분은 공유 테이블에서 조회)
+ * @param waitTimeout     같은 키의 요청이 처리 중일 때 결과를 기다리는 최대 시간 (초과하면 409)
+ * @param pollInterval    다른 노드가 처리 중인 키의 완료 여부를 확인하는 간격
+ * @param lockTimeout     처리 중 상태로 이 시간이 지나면 노드 장애로 보고 다른 요청이 다시 처리
+ * @param cleanupInterval 만료된 키 삭제 간격
+ * @param maxBodySize     키가 있는 요청의 본문 최대 크기 (초과하면 413)
+ * @param encryptionKey   저장 응답 암호화 키 (Base64 32바이트, enabled이면 필수)
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("10s") Duration waitTimeout,
+        @DefaultValue("100ms") Duration pollInterval,
+        @DefaultValue("30s") Duration lockTimeout,
+        @DefaultValue("5m") Duration cleanupInterval,
+        @DefaultValue("16KB") DataSize maxBodySize,
+        String encryptionKey
+) {
+}
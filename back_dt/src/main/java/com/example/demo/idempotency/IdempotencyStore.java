@@ -0,0 +1,335 @@
+package com.example.demo.idempotency;
+
+import com.example.demo.domain.IdempotencyRecord;
+import com.example.demo.enums.IdempotencyStatus;
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.example.demo.util.AesGcmCipher;
+import com.example.demo.util.EncryptionKeys;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key별 처리 상태와 응답 저장소.
+ * 완료된 응답은 메모리(Caffeine)에 먼저 두고, 노드 간 공유와 재시작 대비를 위해 idempotency_keys 테이블에도 저장.
+ * 같은 노드의 동시 요청은 메모리에서 첫 요청이 끝나기를 기다리고, 다른 노드의 동시 요청은
+ * 기본 키 INSERT 충돌로 감지하여 테이블의 완료 여부를 pollInterval마다 확인.
+ */
+public class IdempotencyStore {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final IdempotencyRecordRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AesGcmCipher cipher;
+    private final SecretKeySpec fingerprintKey;
+    private final IdempotencyProperties properties;
+
+    // 완료된 응답 (테이블의 만료시간까지만 보관)
+    private final Cache<String, Entry> completed;
+    // 이 노드에서 처리 중인 키
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService cleanupExecutor;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            IdempotencyProperties properties) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        byte[] key = EncryptionKeys.requireAes256Key("idempotency.encryption-key", properties.encryptionKey());
+        this.cipher = new AesGcmCipher(key);
+        this.fingerprintKey = new SecretKeySpec(sha256(("idempotency-fingerprint:" + Base64.getEncoder().encodeToString(key))
+                .getBytes(StandardCharsets.UTF_8)), "HmacSHA256");
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String id, Entry entry, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), entry.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 만료된 키를 cleanupInterval마다 삭제하는 스레드 시작.
+     */
+    public synchronized void start() {
+        if (cleanupExecutor != null) {
+            return;
+        }
+        cleanupExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "idempotency-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.cleanupInterval().toMillis();
+        cleanupExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                int deleted = deleteExpired();
+                if (deleted > 0) {
+                    log.debug("만료된 Idempotency 키 {}개 삭제", deleted);
+                }
+            } catch (RuntimeException e) {
+                log.warn("만료된 Idempotency 키 삭제 실패: {}", e.getMessage());
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void stop() {
+        if (cleanupExecutor != null) {
+            cleanupExecutor.shutdownNow();
+            cleanupExecutor = null;
+        }
+    }
+
+    /**
+     * 메서드, 경로, 헤더 값으로 저장소 키 생성. (헤더 값은 그대로 저장하지 않음)
+     */
+    public String keyId(String method, String path, String idempotencyKey) {
+        return HexFormat.of().formatHex(sha256((method + " " + path + " " + idempotencyKey).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 요청 본문의 HMAC. 비밀번호가 포함된 본문이므로 평문 해시 대신 서버 키로 계산.
+     */
+    public String fingerprint(byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(fingerprintKey);
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 키 처리 시작.
+     * 저장된 응답이 있으면 REPLAY, 같은 키의 요청이 처리 중이면 끝날 때까지(waitTimeout) 기다린 뒤 다시 판단.
+     * CLAIMED를 받은 호출자는 처리가 끝나면 반드시 complete 또는 release를 호출해야 함.
+     *
+     * @throws DataAccessException 공유 테이블에 접근할 수 없는 경우
+     */
+    public IdempotencyOutcome begin(String id, String fingerprint) {
+        long deadline = System.nanoTime() + properties.waitTimeout().toNanos();
+        while (true) {
+            Entry cached = completed.getIfPresent(id);
+            if (cached != null) {
+                return replayOrMismatch(cached, fingerprint);
+            }
+
+            InFlight mine = new InFlight(fingerprint, new CompletableFuture<>());
+            InFlight existing = inFlight.putIfAbsent(id, mine);
+            if (existing != null) {
+                if (!existing.fingerprint().equals(fingerprint)) {
+                    return IdempotencyOutcome.MISMATCH;
+                }
+                // 같은 노드의 첫 요청이 끝나면 저장된 응답으로 다시 판단
+                if (!await(existing.done(), deadline)) {
+                    return IdempotencyOutcome.IN_PROGRESS;
+                }
+                continue;
+            }
+
+            IdempotencyOutcome outcome = IdempotencyOutcome.IN_PROGRESS;
+            try {
+                outcome = claimOrLoad(id, fingerprint, deadline);
+                return outcome;
+            } finally {
+                // 처리를 맡은 경우에는 complete, release에서 해제
+                if (outcome.type() != IdempotencyOutcome.Type.CLAIMED) {
+                    finish(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * 처리 결과를 저장하고 기다리던 요청에 알림.
+     */
+    public void complete(String id, String fingerprint, StoredResponse response) {
+        Instant expiresAt = Instant.now().plus(properties.ttl());
+        completed.put(id, new Entry(fingerprint, response, expiresAt));
+        try {
+            String encrypted = cipher.encrypt(objectMapper.writeValueAsString(response));
+            transactionTemplate.executeWithoutResult(status -> repository.complete(id, encrypted, expiresAt));
+        } catch (IOException | DataAccessException e) {
+            // 다른 노드는 lockTimeout 이후 다시 처리하게 됨
+            log.warn("Idempotency 응답 저장 실패: {}", e.getMessage());
+        } finally {
+            finish(id);
+        }
+    }
+
+    /**
+     * 응답을 저장하지 않고 키를 해제. (서버 오류 등 재시도 시 다시 처리해야 하는 경우)
+     */
+    public void release(String id) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.release(id));
+        } catch (DataAccessException e) {
+            log.warn("Idempotency 키 해제 실패: {}", e.getMessage());
+        } finally {
+            finish(id);
+        }
+    }
+
+    /**
+     * 만료된 키 삭제.
+     *
+     * @return 삭제한 키 수
+     */
+    public int deleteExpired() {
+        Integer deleted = transactionTemplate.execute(status -> repository.deleteExpired(Instant.now()));
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 테이블에 처리 중 상태로 INSERT하여 선점하거나, 이미 있으면 상태에 따라 응답
+    private IdempotencyOutcome claimOrLoad(String id, String fingerprint, long deadline) {
+        while (true) {
+            if (tryInsert(id, fingerprint)) {
+                return IdempotencyOutcome.CLAIMED;
+            }
+            Optional<IdempotencyRecord> found = repository.findById(id);
+            if (found.isEmpty()) {
+                // 조회 전에 해제되었으면 다시 선점 시도
+                continue;
+            }
+            IdempotencyRecord record = found.get();
+            Instant now = Instant.now();
+            if (record.getExpiresAt().isBefore(now) || (record.getStatus() == IdempotencyStatus.IN_PROGRESS
+                    && record.getCreatedAt().isBefore(now.minus(properties.lockTimeout())))) {
+                transactionTemplate.executeWithoutResult(status ->
+                        repository.deleteIfStale(id, now, now.minus(properties.lockTimeout())));
+                continue;
+            }
+            if (!record.getFingerprint().equals(fingerprint)) {
+                return IdempotencyOutcome.MISMATCH;
+            }
+            if (record.getStatus() == IdempotencyStatus.COMPLETED) {
+                Entry entry = new Entry(fingerprint, decode(record.getResponse()), record.getExpiresAt());
+                completed.put(id, entry);
+                return IdempotencyOutcome.replay(entry.response());
+            }
+            // 다른 노드가 처리 중
+            if (System.nanoTime() >= deadline) {
+                return IdempotencyOutcome.IN_PROGRESS;
+            }
+            try {
+                Thread.sleep(properties.pollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return IdempotencyOutcome.IN_PROGRESS;
+            }
+        }
+    }
+
+    private boolean tryInsert(String id, String fingerprint) {
+        Instant now = Instant.now();
+        IdempotencyRecord record = IdempotencyRecord.builder()
+                .id(id)
+                .fingerprint(fingerprint)
+                .status(IdempotencyStatus.IN_PROGRESS)
+                .createdAt(now)
+                .expiresAt(now.plus(properties.ttl()))
+                .build();
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.saveAndFlush(record));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private StoredResponse decode(String encrypted) {
+        try {
+            return objectMapper.readValue(cipher.decrypt(encrypted), StoredResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("저장된 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static IdempotencyOutcome replayOrMismatch(Entry entry, String fingerprint) {
+        return entry.fingerprint().equals(fingerprint)
+                ? IdempotencyOutcome.replay(entry.response())
+                : IdempotencyOutcome.MISMATCH;
+    }
+
+    private void finish(String id) {
+        InFlight removed = inFlight.remove(id);
+        if (removed != null) {
+            removed.done().complete(null);
+        }
+    }
+
+    private static boolean await(CompletableFuture<Void> done, long deadline) {
+        try {
+            done.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    private static byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(String fingerprint, StoredResponse response, Instant expiresAt) {
+    }
+
+    private record InFlight(String fingerprint, CompletableFuture<Void> done) {
+    }
+}
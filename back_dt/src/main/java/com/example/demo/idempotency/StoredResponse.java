@@ -0,0 +1,14 @@
+package com.example.demo.idempotency;
+
+import java.util.Map;
+
+/**
+ * 재시도에 그대로 돌려줄 응답.
+ *
+ * @param status      HTTP 상태 코드
+ * @param contentType Content-Type 헤더 (없으면 null)
+ * @param headers     함께 저장하는 응답 헤더 (Auth, Refresh, Location)
+ * @param body        응답 본문
+ */
+public record StoredResponse(int status, String contentType, Map<String, String> headers, byte[] body) {
+}
@@ -0,0 +1,31 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JwtFilter를 통과하는 HTTP 요청 전체 구간을 기록하는 JFR 이벤트.
+ */
+@Name("com.example.demo.HttpRequest")
+@Label("HTTP Request")
+@Category({"Demo", "Web"})
+@Description("JwtFilter 이후 필터 체인과 핸들러 실행")
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Principal")
+    public String principal;
+}
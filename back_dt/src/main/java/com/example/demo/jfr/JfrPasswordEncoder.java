@@ -0,0 +1,54 @@
+package com.example.demo.jfr;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 실제 PasswordEncoder 호출을 PasswordVerificationEvent로 감싸는 데코레이터.
+ * 녹화 중이 아닐 때는 isEnabled() 검사 한 번만 추가됨.
+ */
+public class JfrPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    public JfrPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        PasswordVerificationEvent event = new PasswordVerificationEvent();
+        if (!event.isEnabled()) {
+            return delegate.encode(rawPassword);
+        }
+        event.begin();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            event.operation = "encode";
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordVerificationEvent event = new PasswordVerificationEvent();
+        if (!event.isEnabled()) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        event.begin();
+        boolean matched = false;
+        try {
+            matched = delegate.matches(rawPassword, encodedPassword);
+            return matched;
+        } finally {
+            event.operation = "matches";
+            event.matched = matched;
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.jfr;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * 재시작이나 에이전트 없이 JDK Flight Recorder 녹화를 시작하고 종료하는 서비스.
+ * 동시에 하나의 녹화만 허용하며, 녹화 시간과 크기는 설정값으로 제한.
+ */
+@Service
+public class JfrRecordingService {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final String settings;
+
+    private Recording recording;
+
+    public JfrRecordingService(@Value("${jfr.max-duration:10m}") Duration maxDuration,
+                               @Value("${jfr.max-size:100MB}") DataSize maxSize,
+                               @Value("${jfr.settings:profile}") String settings) {
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.settings = settings;
+    }
+
+    /**
+     * 녹화 시작. 요청한 시간이 최대 시간을 넘으면 최대 시간으로 제한.
+     *
+     * @param duration 녹화 시간 (null이면 최대 시간)
+     * @return 실제 적용된 녹화 시간
+     */
+    public synchronized Duration start(Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new CustomException(ErrorCode.JFR_ALREADY_RUNNING);
+        }
+        closeQuietly();
+
+        Duration bounded = duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration;
+        try {
+            Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+            newRecording.setName("demo-on-demand");
+            newRecording.setToDisk(true);
+            newRecording.setDuration(bounded);
+            newRecording.setMaxSize(maxSize.toBytes());
+            newRecording.start();
+            recording = newRecording;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정을 불러올 수 없습니다: " + settings, e);
+        }
+        log.info("JFR 녹화를 시작합니다. (duration : {}, settings : {})", bounded, settings);
+        return bounded;
+    }
+
+    /**
+     * 녹화를 종료하고 결과를 임시 .jfr 파일로 저장.
+     * 설정된 시간이 지나 자동으로 종료된 녹화도 가져올 수 있음.
+     *
+     * @return 녹화 파일 경로 (호출자가 전송 후 삭제)
+     */
+    public synchronized Path stop() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new CustomException(ErrorCode.JFR_NOT_RUNNING);
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile("demo-", ".jfr");
+            recording.dump(file);
+            log.info("JFR 녹화를 종료했습니다. ({} bytes)", Files.size(file));
+            return file;
+        } catch (IOException e) {
+            throw new IllegalStateException("JFR 녹화 파일을 저장할 수 없습니다.", e);
+        } finally {
+            closeQuietly();
+        }
+    }
+
+    private void closeQuietly() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 비밀번호 해시 생성 및 비교 구간을 기록하는 JFR 이벤트.
+ */
+@Name("com.example.demo.PasswordVerification")
+@Label("Password Verification")
+@Category({"Demo", "Auth"})
+@Description("PasswordEncoder의 encode/matches 호출")
+@StackTrace(false)
+public class PasswordVerificationEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Matched")
+    public boolean matched;
+}
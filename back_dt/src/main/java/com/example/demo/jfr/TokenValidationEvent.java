@@ -0,0 +1,25 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * TokenProvider의 JWT 서명 검증 구간을 기록하는 JFR 이벤트.
+ */
+@Name("com.example.demo.TokenValidation")
+@Label("Token Validation")
+@Category({"Demo", "Auth"})
+@Description("JWT 서명 및 만료 검증")
+@StackTrace(false)
+public class TokenValidationEvent extends Event {
+
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("Failure")
+    public String failure;
+}
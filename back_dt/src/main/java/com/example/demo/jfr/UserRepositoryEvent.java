@@ -0,0 +1,25 @@
+package com.example.demo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 회원 저장소(UserRecordRepository) 호출 구간을 기록하는 JFR 이벤트.
+ */
+@Name("com.example.demo.UserRepository")
+@Label("User Repository Call")
+@Category({"Demo", "Persistence"})
+@Description("회원 데이터 접근 메서드 호출")
+@StackTrace(false)
+public class UserRepositoryEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("Success")
+    public boolean success;
+}
@@ -0,0 +1,33 @@
+package com.example.demo.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * UserRecordRepository 구현체의 모든 호출을 UserRepositoryEvent로 기록하는 Aspect.
+ */
+@Aspect
+@Component
+public class UserRepositoryJfrAspect {
+
+    @Around("execution(* com.example.demo.repository.UserRecordRepository+.*(..))")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        UserRepositoryEvent event = new UserRepositoryEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        boolean success = false;
+        try {
+            Object result = joinPoint.proceed();
+            success = true;
+            return result;
+        } finally {
+            event.method = joinPoint.getSignature().getName();
+            event.success = success;
+            event.commit();
+        }
+    }
+}
@@ -1,80 +1,180 @@
 package com.example.demo.jwt;
 
+import com.example.demo.jfr.HttpRequestEvent;
+import com.example.demo.metering.UsageMeter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.util.StringUtils;
-import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 /**
  * JWT 토큰을 검증하고 인증 정보를 설정하는 필터 클래스.
- * Spring Security의 GenericFilterBean을 상속받아 필터링 로직 구현.
+ * OncePerRequestFilter를 상속받아 요청당 한 번만 실행되며,
+ * RouteClassifier가 공개 경로로 분류한 요청은 토큰 처리를 모두 건너뜀.
+ * UsageMeter가 주어지면 인증된 요청의 호출 수를 사용자, 경로별로 메모리에 집계하고 일일 한도 헤더를 추가.
  */
-public class JwtFilter extends GenericFilterBean {
+public class JwtFilter extends OncePerRequestFilter {
 
     // 로그 처리
     private final Logger log = LoggerFactory.getLogger(getClass());
-    
+
     // HTTP 요청 헤더에서 JWT 토큰을 가져오기 위한 헤더 이름
     private static final String AUTHORIZATION_HEADER = "Authorization";
     // JWT 토큰의 시작을 나타내는 Bearer scheme prefix
     private static final String BEARER_PREFIX = "Bearer ";
-    
+    // 일일 호출 한도와 남은 호출 수 응답 헤더
+    private static final String USAGE_LIMIT_HEADER = "X-Usage-Limit";
+    private static final String USAGE_REMAINING_HEADER = "X-Usage-Remaining";
+    // 핸들러에 매핑되지 않은 요청(404 등)의 경로 이름
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
     private final TokenProvider tokenProvider;
+    private final RouteClassifier routeClassifier;
+    private final UsageMeter usageMeter;
+    // 비동기 디스패치(StreamingResponseBody 등)에서도 인증 정보를 다시 읽을 수 있도록 요청 속성에 저장
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    /**
+     * JwtFilter 생성자. (사용량 집계 없음)
+     * @param tokenProvider JWT 토큰을 생성하고 검증하는 TokenProvider 객체.
+     * @param routeClassifier 공개 경로를 판별하는 RouteClassifier 객체.
+     */
+    public JwtFilter(TokenProvider tokenProvider, RouteClassifier routeClassifier) {
+        this(tokenProvider, routeClassifier, null);
+    }
 
     /**
      * JwtFilter 생성자.
      * @param tokenProvider JWT 토큰을 생성하고 검증하는 TokenProvider 객체.
+     * @param routeClassifier 공개 경로를 판별하는 RouteClassifier 객체.
+     * @param usageMeter 인증된 요청의 호출 수를 집계하는 UsageMeter 객체. (null이면 집계하지 않음)
      */
-    public JwtFilter(TokenProvider tokenProvider) {
+    public JwtFilter(TokenProvider tokenProvider, RouteClassifier routeClassifier, UsageMeter usageMeter) {
         this.tokenProvider = tokenProvider;
+        this.routeClassifier = routeClassifier;
+        this.usageMeter = usageMeter;
     }
 
     /**
      * HTTP 요청을 필터링하여 JWT 토큰을 검증하고 인증 정보를 설정.
-     * @param request ServletRequest 객체
-     * @param response ServletResponse 객체
+     * @param request HttpServletRequest 객체
+     * @param response HttpServletResponse 객체
      * @param chain FilterChain 객체
      * @throws IOException 입출력 예외가 발생할 경우
      * @throws ServletException 서블릿 예외가 발생할 경우
      */
     @Override
-    public void doFilter(ServletRequest request,
-                         ServletResponse response,
-                         FilterChain chain) throws IOException, ServletException {
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws IOException, ServletException {
+
+        // 공개 경로가 아닌 경우에만 토큰을 추출하고 한 번 검증
+        Authentication authentication = routeClassifier.isPublic(request) ? null : authenticate(request, response);
+
+        if (authentication == null || usageMeter == null) {
+            doFilterWithEvent(request, response, chain);
+            return;
+        }
+        // 한도를 넘어도 요청은 처리하고 헤더와 지표로만 알림 (응답 본문 작성 전에 헤더 설정)
+        String principal = authentication.getName();
+        applyQuotaHeaders(principal, response);
+        try {
+            doFilterWithEvent(request, response, chain);
+        } finally {
+            // 요청 스레드는 메모리 카운터만 증가시키고, DB 반영은 UsageFlusher가 주기적으로 수행
+            usageMeter.record(principal, route(request));
+        }
+    }
 
-        // HttpServletRequest로 캐스팅하여 HTTP 요청 객체로 변환.
-        HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+    /**
+     * 다음 필터로 요청을 전달하고, JFR 녹화 중이면 요청 전체 구간을 이벤트로 기록.
+     */
+    private void doFilterWithEvent(HttpServletRequest request,
+                                   HttpServletResponse response,
+                                   FilterChain chain) throws IOException, ServletException {
+        // 다음 필터로 요청을 전달합니다.
+        HttpRequestEvent event = new HttpRequestEvent();
+        if (!event.isEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        // JFR 녹화 중에는 요청 전체 구간을 이벤트로 기록
+        event.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (event.shouldCommit()) {
+                Authentication current = SecurityContextHolder.getContext().getAuthentication();
+                event.method = request.getMethod();
+                event.uri = request.getRequestURI();
+                event.status = response.getStatus();
+                event.principal = current == null ? null : current.getName();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 일일 호출 한도가 설정된 경우 한도와 남은 호출 수를 응답 헤더에 추가.
+     * @param principal 사용자 이름
+     * @param response HTTP 응답 객체
+     */
+    private void applyQuotaHeaders(String principal, HttpServletResponse response) {
+        long limit = usageMeter.getDailyQuota();
+        if (limit <= 0) {
+            return;
+        }
+        // 이번 요청을 포함한 남은 호출 수
+        long remaining = usageMeter.checkQuota(principal) ? 0 : limit - usageMeter.getTodayCalls(principal) - 1;
+        response.setHeader(USAGE_LIMIT_HEADER, Long.toString(limit));
+        response.setHeader(USAGE_REMAINING_HEADER, Long.toString(Math.max(0, remaining)));
+    }
+
+    /**
+     * 집계에 사용할 경로. 경로 변수마다 카운터가 늘지 않도록 실제 URI 대신 매핑된 경로 패턴을 사용.
+     * @param request HTTP 요청 객체
+     * @return "메서드 경로 패턴" 형태의 경로
+     */
+    private String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? UNMATCHED_ROUTE : pattern.toString());
+    }
+
+    /**
+     * 요청의 JWT 토큰을 검증하고 SecurityContext에 인증 정보를 설정.
+     * @param request HTTP 요청 객체
+     * @param response HTTP 응답 객체
+     * @return 검증된 인증 정보 (유효한 토큰이 없으면 null)
+     */
+    private Authentication authenticate(HttpServletRequest request, HttpServletResponse response) {
         // HTTP 요청 헤더에서 JWT 토큰을 추출.
-        String jwt = resolveToken(httpServletRequest);
-        // HTTP 요청 URI를 가져옴.
-        String requestURI = httpServletRequest.getRequestURI();
-
-        // 추출한 JWT 토큰이 존재하고 유효성 검사를 통과한 경우
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            // JWT 토큰을 이용하여 Authentication 객체를 가져옴.
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+        String jwt = resolveToken(request);
+        // 추출한 JWT 토큰이 존재하는 경우 서명 검증과 Authentication 생성을 한 번에 수행
+        Authentication authentication = StringUtils.hasText(jwt) ? tokenProvider.getVerifiedAuthentication(jwt) : null;
+
+        if (authentication != null) {
             // SecurityContext에 Authentication 객체를 설정.
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            // 인증 정보 설정 로그를 출력.
-            //System.out.println("Security Context에 " + authentication.getName() + " 인증 정보를 저장했습니다. uri : " + requestURI);
-            log.info("Security Context에 {} 인증 정보를 저장했습니다. uri : {}", authentication.getName(), requestURI);
+            SecurityContext context = SecurityContextHolder.getContext();
+            context.setAuthentication(authentication);
+            securityContextRepository.saveContext(context, request, response);
+            log.debug("Security Context에 {} 인증 정보를 저장했습니다. uri : {}", authentication.getName(), request.getRequestURI());
         } else {
             // 유효한 JWT 토큰이 없는 경우에 대한 로그를 출력.
-            //System.out.println("유효한 JWT 토큰이 없습니다. uri : " + requestURI);
-            log.info("유효한 JWT 토큰이 없습니다. uri : {}", requestURI);
+            log.debug("유효한 JWT 토큰이 없습니다. uri : {}", request.getRequestURI());
         }
-
-        // 다음 필터로 요청을 전달합니다.
-        chain.doFilter(request, response);
+        return authentication;
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.example.demo.jwt;
 
+import com.example.demo.metering.UsageMeter;
 import lombok.AllArgsConstructor;
 import org.springframework.security.config.annotation.SecurityConfigurerAdapter;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -10,11 +11,14 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
     private TokenProvider tokenProvider;
+    private RouteClassifier routeClassifier;
+    // 사용량 집계를 끈 경우 null
+    private UsageMeter usageMeter;
 
     // TokenProvider와 JwtFilter를 SecurityConfig에 등록
     @Override
     public void configure(HttpSecurity http){
-        JwtFilter customFilter = new JwtFilter(tokenProvider);
+        JwtFilter customFilter = new JwtFilter(tokenProvider, routeClassifier, usageMeter);
         http.addFilterBefore(customFilter, UsernamePasswordAuthenticationFilter.class);
     }
 }
\ No newline at end of file
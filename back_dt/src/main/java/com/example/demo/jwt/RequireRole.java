@@ -0,0 +1,22 @@
+package com.example.demo.jwt;
+
+import com.example.demo.enums.Role;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 지정한 역할 중 하나라도 가진 사용자만 호출할 수 있도록 제한하는 어노테이션.
+ * 클래스에 붙이면 모든 메서드에 적용되며, 메서드에 붙인 값이 우선.
+ * RoleAuthorizationManager가 역할 비트마스크로 검사.
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireRole {
+
+    Role[] value();
+}
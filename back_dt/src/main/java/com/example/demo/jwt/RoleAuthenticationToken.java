@@ -0,0 +1,45 @@
+package com.example.demo.jwt;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * JWT 토큰으로 인증된 사용자를 나타내는 Authentication.
+ * 권한 목록을 요청마다 복사하지 않고 역할 마스크에 해당하는 공유 목록을 그대로 반환하며,
+ * RoleAuthorizationManager가 문자열 비교 없이 마스크로 권한을 검사할 수 있도록 마스크를 함께 보관.
+ */
+public class RoleAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final String username;
+    private final String token;
+    private final int roleMask;
+
+    public RoleAuthenticationToken(String username, String token, int roleMask) {
+        super(null);
+        this.username = username;
+        this.token = token;
+        this.roleMask = roleMask;
+        setAuthenticated(true);
+    }
+
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return RoleAuthorities.authorities(roleMask);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return token;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return username;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.demo.jwt;
+
+import com.example.demo.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 역할 비트마스크와 권한 목록 사이의 변환 테이블.
+ * 가능한 모든 마스크에 대한 불변 권한 목록, 역할 집합, 기존 auth 클레임 문자열을 기동 시 한 번만 만들어 두고
+ * 요청 처리 중에는 배열 조회만 수행.
+ */
+public final class RoleAuthorities {
+
+    // 정의된 모든 역할 비트
+    public static final int ALL = (1 << Role.values().length) - 1;
+
+    private static final List<List<GrantedAuthority>> AUTHORITIES = new ArrayList<>();
+    private static final List<Set<Role>> ROLES = new ArrayList<>();
+    private static final List<List<String>> NAMES = new ArrayList<>();
+    private static final List<String> LEGACY_CLAIMS = new ArrayList<>();
+    private static final Map<String, Role> BY_NAME = new HashMap<>();
+
+    static {
+        for (int mask = 0; mask <= ALL; mask++) {
+            EnumSet<Role> roles = EnumSet.noneOf(Role.class);
+            for (Role role : Role.values()) {
+                if ((mask & role.bit()) != 0) {
+                    roles.add(role);
+                }
+            }
+            AUTHORITIES.add(roles.stream().map(RoleAuthority::of).collect(Collectors.toUnmodifiableList()));
+            ROLES.add(Collections.unmodifiableSet(roles));
+            NAMES.add(roles.stream().map(Role::name).toList());
+            LEGACY_CLAIMS.add(roles.stream().map(Role::name).collect(Collectors.joining(",")));
+        }
+        for (Role role : Role.values()) {
+            BY_NAME.put(role.name(), role);
+        }
+    }
+
+    private RoleAuthorities() {}
+
+    // 마스크에 해당하는 공유 권한 목록
+    public static List<GrantedAuthority> authorities(int mask) {
+        return AUTHORITIES.get(mask & ALL);
+    }
+
+    // 역할 하나에 해당하는 공유 권한 목록
+    public static List<GrantedAuthority> authorities(Role role) {
+        return authorities(mask(role));
+    }
+
+    // 마스크에 해당하는 불변 역할 집합
+    public static Set<Role> roles(int mask) {
+        return ROLES.get(mask & ALL);
+    }
+
+    // 마스크에 해당하는 권한 이름 목록
+    public static List<String> names(int mask) {
+        return NAMES.get(mask & ALL);
+    }
+
+    // 기존 형식(쉼표로 구분한 역할 이름)의 auth 클레임 값
+    public static String legacyClaim(int mask) {
+        return LEGACY_CLAIMS.get(mask & ALL);
+    }
+
+    public static int mask(Role role) {
+        return role == null ? 0 : role.bit();
+    }
+
+    /**
+     * 권한 목록을 마스크로 변환. RoleAuthority는 문자열 비교 없이 바로 변환하며,
+     * 그 밖의 권한은 이름이 Role과 같을 때만 반영.
+     */
+    public static int mask(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            if (authority instanceof RoleAuthority roleAuthority) {
+                mask |= roleAuthority.getRole().bit();
+            } else {
+                mask |= mask(BY_NAME.get(authority.getAuthority()));
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 기존 형식의 auth 클레임("USER,ADMIN")을 마스크로 변환. Role에 없는 이름은 무시.
+     */
+    public static int parseLegacy(String claim) {
+        int mask = 0;
+        int start = 0;
+        while (start <= claim.length()) {
+            int end = claim.indexOf(',', start);
+            if (end < 0) {
+                end = claim.length();
+            }
+            mask |= mask(BY_NAME.get(claim.substring(start, end).trim()));
+            start = end + 1;
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.jwt;
+
+import com.example.demo.enums.Role;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Role 하나에 대응하는 불변 권한 객체.
+ * 역할마다 하나의 인스턴스만 만들어 모든 요청이 공유하며, 권한 이름은 기존과 같이 Role 이름을 사용.
+ */
+public final class RoleAuthority implements GrantedAuthority {
+
+    private static final Map<Role, RoleAuthority> INSTANCES = new EnumMap<>(Role.class);
+
+    static {
+        for (Role role : Role.values()) {
+            INSTANCES.put(role, new RoleAuthority(role));
+        }
+    }
+
+    private final Role role;
+
+    private RoleAuthority(Role role) {
+        this.role = role;
+    }
+
+    public static RoleAuthority of(Role role) {
+        return INSTANCES.get(role);
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    @Override
+    public String getAuthority() {
+        return role.name();
+    }
+
+    @Override
+    public String toString() {
+        return role.name();
+    }
+}
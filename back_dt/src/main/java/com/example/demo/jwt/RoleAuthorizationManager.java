@@ -0,0 +1,67 @@
+package com.example.demo.jwt;
+
+import com.example.demo.enums.Role;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.MethodClassKey;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * @RequireRole이 붙은 메서드의 호출 권한을 역할 비트마스크로 검사하는 AuthorizationManager.
+ * 메서드별 요구 마스크는 처음 호출될 때 한 번만 계산하고, 이후에는 비트 AND 연산 한 번으로 판정.
+ */
+public class RoleAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<MethodClassKey, Integer> requiredMasks = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() == null
+                ? invocation.getMethod().getDeclaringClass()
+                : AopUtils.getTargetClass(invocation.getThis());
+        int required = requiredMasks.computeIfAbsent(new MethodClassKey(invocation.getMethod(), targetClass),
+                key -> resolveRequiredMask(invocation.getMethod(), targetClass));
+        return (roleMask(authentication.get()) & required) != 0 ? GRANTED : DENIED;
+    }
+
+    // 인증된 사용자의 역할 마스크. JWT 인증은 토큰에 저장된 마스크를 그대로 사용
+    private int roleMask(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return 0;
+        }
+        if (authentication instanceof RoleAuthenticationToken roleAuthenticationToken) {
+            return roleAuthenticationToken.getRoleMask();
+        }
+        return RoleAuthorities.mask(authentication.getAuthorities());
+    }
+
+    // 메서드, 클래스 순서로 @RequireRole을 찾아 요구 마스크를 계산
+    private int resolveRequiredMask(Method method, Class<?> targetClass) {
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+        RequireRole requireRole = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequireRole.class);
+        if (requireRole == null) {
+            requireRole = AnnotatedElementUtils.findMergedAnnotation(targetClass, RequireRole.class);
+        }
+        if (requireRole == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (Role role : requireRole.value()) {
+            mask |= role.bit();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * 인증 없이 접근 가능한 공개 경로를 판별하는 분류기.
+ * 기동 시 PathPattern으로 한 번만 컴파일하며, SecurityConfig의 permitAll 규칙과 JwtFilter가 같은 기준을 사용.
+ */
+@Component
+public class RouteClassifier implements RequestMatcher {
+
+    // 공개 경로 목록
+    static final List<String> PUBLIC_PATTERNS = List.of(
+            "/api/v1/*/auth/**",        // 인증 관련 API 경로
+            "/api/v1/*/any/**",         // 일반 API 경로
+            "/api/v1/internal/**",      // 내부 서비스 API (내부 인증 키로 별도 검증)
+            "/swagger-resources/**",    // 스웨거 리소스
+            "/configuration/ui",        // 스웨거 UI 설정
+            "/configuration/security",  // 스웨거 보안 설정
+            "/swagger-ui/**",           // 스웨거 UI 페이지
+            "/swagger-ui.html",         // 스웨거 UI 진입 경로
+            "/webjars/**",              // 웹 자원(JAR 파일)
+            "/v3/api-docs/**",          // 스웨거 3.0 이상 API 문서 엔드포인트
+            "/api-docs/**",             // 빌드 시 생성한 정적 API 문서
+            "/actuator/health/**",      // 로드밸런서 헬스 체크(liveness/readiness)
+            "/h2-console/**",           // H2 데이터베이스 콘솔
+            "/error"                    // 오류 응답 경로
+    );
+
+    private final List<PathPattern> publicPatterns;
+
+    public RouteClassifier() {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        this.publicPatterns = PUBLIC_PATTERNS.stream().map(parser::parse).toList();
+    }
+
+    /**
+     * 요청 경로가 공개 경로인지 판별.
+     * 오류 페이지 포워드처럼 같은 요청이 다른 경로로 다시 디스패치될 수 있으므로 결과를 요청에 캐시하지 않음.
+     *
+     * @param request HTTP 요청 객체
+     * @return 공개 경로이면 true
+     */
+    public boolean isPublic(HttpServletRequest request) {
+        return isPublic(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    /**
+     * 컨텍스트 경로를 제외한 요청 경로가 공개 경로인지 판별.
+     *
+     * @param path 요청 경로
+     * @return 공개 경로이면 true
+     */
+    public boolean isPublic(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : publicPatterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return isPublic(request);
+    }
+}
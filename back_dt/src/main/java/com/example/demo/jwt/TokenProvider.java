@@ -1,6 +1,8 @@
 package com.example.demo.jwt;
 
 import com.example.demo.dto.token.TokenDto;
+import com.example.demo.dto.token.TokenIntrospectionDto;
+import com.example.demo.jfr.TokenValidationEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,17 +11,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import java.security.Key;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
-import java.util.stream.Collectors;
 
 @Component
 public class TokenProvider implements InitializingBean {
@@ -27,17 +22,26 @@ public class TokenProvider implements InitializingBean {
     // 로그 처리
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    // 기존 형식의 권한 클레임 ("USER,ADMIN")
     private static final String AUTHORITIES_KEY = "auth";
+    // 역할 비트마스크 클레임
+    private static final String ROLES_KEY = "rol";
     private static final String BEARER_TYPE = "bearer";
     private static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 60;
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 7;
 
     private final String secret;
+    // 기존 auth 클레임을 함께 발급할지 여부 (이전 버전 서버가 새 토큰을 읽을 수 있도록 전환 기간 동안 유지)
+    private final boolean legacyAuthClaim;
     private Key key;
+    // 서명 키가 고정이므로 파서는 한 번만 생성하여 재사용
+    private JwtParser jwtParser;
 
     // 생성자에서 주입받은 secret 값을 사용하여 키 초기화
-    public TokenProvider(@Value("${jwt.secret}") String secret){
+    public TokenProvider(@Value("${jwt.secret}") String secret,
+                         @Value("${jwt.legacy-auth-claim:true}") boolean legacyAuthClaim){
         this.secret = secret;
+        this.legacyAuthClaim = legacyAuthClaim;
     }
 
     // InitializingBean 인터페이스 구현 메서드
@@ -47,17 +51,22 @@ public class TokenProvider implements InitializingBean {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         // Key 객체 생성
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
-    // userId와 authorities를 받아서 TokenDto를 생성하는 메서드
-    public TokenDto generateTokenDto(String userId, String authorities){
+    // userId와 역할 비트마스크를 받아서 TokenDto를 생성하는 메서드
+    public TokenDto generateTokenDto(String userId, int roleMask){
         long now = (new Date().getTime());
 
         // Access Token 생성
         Date accessTokenExpiresIn = new Date(now + ACCESS_TOKEN_EXPIRE_TIME);
-        String accessToken = Jwts.builder()
+        JwtBuilder accessTokenBuilder = Jwts.builder()
                 .setSubject(userId) // 토큰을 발급 받는 사람의 아이디 설정
-                .claim(AUTHORITIES_KEY, authorities) // 토큰을 발급 받는 사람의 권한 설정
+                .claim(ROLES_KEY, roleMask); // 토큰을 발급 받는 사람의 권한 설정
+        if (legacyAuthClaim) {
+            accessTokenBuilder.claim(AUTHORITIES_KEY, RoleAuthorities.legacyClaim(roleMask));
+        }
+        String accessToken = accessTokenBuilder
                 .setExpiration(accessTokenExpiresIn) // 토큰 만료 시간 설정
                 .signWith(key, SignatureAlgorithm.HS512) // 키와 암호화 알고리즘 설정
                 .compact();
@@ -77,64 +86,155 @@ public class TokenProvider implements InitializingBean {
                 .build();
     }
 
+    // userId와 쉼표로 구분한 권한 이름을 받아서 TokenDto를 생성하는 메서드
+    public TokenDto generateTokenDto(String userId, String authorities){
+        return generateTokenDto(userId, RoleAuthorities.parseLegacy(authorities));
+    }
+
     // Authentication 객체를 받아서 TokenDto를 생성하는 메서드
     public TokenDto generateTokenDto(Authentication authentication){
-        // 권한 정보 가져오기
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
-
-        // generateTokenDto(String userId, String authorities) 메서드 호출
-        return generateTokenDto(authentication.getName(), authorities);
+        // 권한 정보를 역할 비트마스크로 변환하여 generateTokenDto(String userId, int roleMask) 메서드 호출
+        return generateTokenDto(authentication.getName(), RoleAuthorities.mask(authentication.getAuthorities()));
     }
 
-    // 토큰을 받아서 Authentication 객체를 반환하는 메서드
+    // 토큰을 받아서 Authentication 객체를 반환하는 메서드 (만료된 토큰도 Claims를 사용)
     public Authentication getAuthentication(String token){
         // 토큰 복호화하여 Claims 객체 가져오기
         Claims claims = paresClaims(token);
 
         // 권한 정보가 없으면 예외 발생
-        if (claims.get(AUTHORITIES_KEY) == null){
+        int roleMask = roleMask(claims);
+        if (roleMask < 0){
             throw new RuntimeException("권한 정보가 없는 토큰입니다.");
         }
+        return new RoleAuthenticationToken(claims.getSubject(), token, roleMask);
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료를 검증하고 Authentication 객체를 반환.
+     * validateToken 후 getAuthentication을 호출하면 같은 토큰을 두 번 검증하므로 요청 처리 경로에서는 이 메서드를 사용.
+     *
+     * @param token JWT 토큰
+     * @return 유효한 토큰이면 Authentication, 유효하지 않거나 권한 정보가 없으면 null
+     */
+    public Authentication getVerifiedAuthentication(String token){
+        Claims claims = verifyClaims(token);
+        if (claims == null) {
+            return null;
+        }
+        int roleMask = roleMask(claims);
+        if (roleMask < 0){
+            log.info("권한 정보가 없는 토큰입니다.");
+            return null;
+        }
+        return new RoleAuthenticationToken(claims.getSubject(), token, roleMask);
+    }
 
-        // 클레임에서 권한 정보를 가져와서 SimpleGrantedAuthority 객체로 변환 후 Collection 생성
-        Collection<? extends GrantedAuthority> authorities =
-                // 클레임에서 AUTHORITIES_KEY에 해당하는 권한 정보를 가져옴.
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        // 각 권한을 SimpleGrantedAuthority 객체로 변환.
-                        .map(SimpleGrantedAuthority::new)
-                        // 변환된 SimpleGrantedAuthority 객체들을 리스트로 수집하여 Collection을 생성.
-                        .collect(Collectors.toList());
-
-        // UserDetails 객체 생성하여 Authentication 객체 반환
-        User principal = new User(claims.getSubject(), ",", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    /**
+     * 토큰을 한 번만 파싱하여 사용자, 권한, 만료시간과 유효 여부를 반환.
+     * 예외를 던지지 않으므로 여러 토큰을 일괄 검증하는 내부 서비스용 API에서 사용.
+     *
+     * @param token JWT 토큰
+     * @return 검증 결과, 유효하지 않거나 권한 정보가 없는 토큰은 inactive
+     */
+    public TokenIntrospectionDto introspect(String token){
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            return TokenIntrospectionDto.inactive();
+        }
+        return TokenIntrospectionDto.builder()
+                .active(true)
+                .subject(verified.subject())
+                .authorities(RoleAuthorities.names(verified.roleMask()))
+                .expiresAt(verified.expiresAt())
+                .build();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료를 검증하고 사용자, 역할 비트마스크, 만료시간을 반환.
+     *
+     * @param token JWT 토큰
+     * @return 유효한 액세스 토큰이면 VerifiedToken, 유효하지 않거나 권한 정보가 없으면 null
+     */
+    public VerifiedToken verify(String token){
+        Claims claims = verifyClaims(token);
+        int roleMask = claims == null ? -1 : roleMask(claims);
+        if (roleMask < 0) {
+            return null;
+        }
+        return new VerifiedToken(claims.getSubject(), roleMask, claims.getExpiration().getTime());
     }
 
     // 토큰의 유효성을 검사하는 메서드
     public boolean validateToken(String token){
+        return verifyClaims(token) != null;
+    }
+
+    /**
+     * Claims에서 역할 비트마스크를 읽는 메서드.
+     * 전환 기간 동안 rol 클레임이 없는 기존 토큰은 auth 클레임 문자열을 마스크로 변환하여 사용.
+     *
+     * @return 역할 비트마스크, 권한 정보가 없는 토큰(리프레시 토큰 등)이면 -1
+     */
+    private int roleMask(Claims claims){
+        Object roles = claims.get(ROLES_KEY);
+        if (roles instanceof Number number) {
+            return number.intValue() & RoleAuthorities.ALL;
+        }
+        Object authorities = claims.get(AUTHORITIES_KEY);
+        if (authorities != null) {
+            return RoleAuthorities.parseLegacy(authorities.toString());
+        }
+        return -1;
+    }
+
+    // 토큰의 서명과 만료를 검증하고 유효하면 Claims, 아니면 null을 반환하는 메서드
+    private Claims verifyClaims(String token){
+        TokenValidationEvent event = new TokenValidationEvent();
+        // JFR 녹화 중이 아니면 이벤트 없이 검증만 수행 (isEnabled() 검사 한 번만 추가됨)
+        if (!event.isEnabled()) {
+            return parseVerifiedClaims(token, null);
+        }
+        event.begin();
+        Claims claims = parseVerifiedClaims(token, event);
+        if (event.shouldCommit()) {
+            event.valid = claims != null;
+            event.commit();
+        }
+        return claims;
+    }
+
+    // 서명과 만료를 검증하고, 실패하면 이벤트(녹화 중일 때만 전달)에 실패 사유를 기록
+    private Claims parseVerifiedClaims(String token, TokenValidationEvent event){
+        String failure;
         try {
-            // 토큰의 서명을 검증하고 유효하면 true 반환
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            log.info("JWT 유효성 검증 성공");
-            return true;
+            // 토큰의 서명을 검증하고 유효하면 Claims 반환
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            log.debug("JWT 유효성 검증 성공");
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e){
+            failure = "malformed";
             log.info("잘못된 JWT 서명입니다.", e);
         } catch (ExpiredJwtException e){
+            failure = "expired";
             log.info("만료된 토큰입니다.", e);
         } catch (UnsupportedJwtException e){
+            failure = "unsupported";
             log.info("지원되지 않는 JWT 토큰입니다.", e);
         } catch (IllegalArgumentException e){
+            failure = "illegal";
             log.info("JWT 토큰이 잘못되었습니다.", e);
         }
-        return false;
+        if (event != null) {
+            event.failure = failure;
+        }
+        return null;
     }
 
     // 토큰을 파싱하여 Claims 객체를 반환하는 메서드
     private Claims paresClaims(String token){
         try {
-            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e){
             // 토큰이 만료된 경우, 만료된 Claims 반환
             return e.getClaims();
@@ -0,0 +1,11 @@
+package com.example.demo.jwt;
+
+/**
+ * 서명과 만료 검증을 통과한 액세스 토큰의 정보.
+ *
+ * @param subject   토큰 발급 대상 사용자 아이디
+ * @param roleMask  역할 비트마스크
+ * @param expiresAt 만료시간 (epoch millis)
+ */
+public record VerifiedToken(String subject, int roleMask, long expiresAt) {
+}
@@ -0,0 +1,19 @@
+package com.example.demo.lifecycle;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 종료 전 드레인 설정. (drain.*)
+ *
+ * @param readinessDelay readiness를 내린 뒤 헬스 체크와 로드밸런서가 이를 감지할 때까지 트래픽을 계속 받는 시간
+ * @param timeout        처리 중인 요청과 작업이 끝나기를 기다리는 최대 시간 (readinessDelay 이후부터)
+ */
+@ConfigurationProperties(prefix = "drain")
+public record DrainProperties(
+        @DefaultValue("5s") Duration readinessDelay,
+        @DefaultValue("20s") Duration timeout
+) {
+}
@@ -0,0 +1,110 @@
+package com.example.demo.lifecycle;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * 종료 시 Tomcat과 커넥션 풀보다 먼저 트래픽을 비우는 라이프사이클.
+ * SmartLifecycle은 phase가 큰 순서로 멈추므로, 웹 서버의 graceful shutdown(DEFAULT_PHASE - 1024)보다 먼저
+ * readiness를 REFUSING_TRAFFIC으로 내리고, readinessDelay 동안 계속 요청을 받은 뒤
+ * 서버 소켓을 닫아 새 연결을 받지 않고(stopAccepting), 이미 열린 연결의 새 요청은 503(SHUTTING_DOWN)으로 거절하면서
+ * 처리 중인 요청과 백그라운드 작업이 끝나거나 timeout이 지날 때까지 기다림.
+ * readiness를 보지 않는 nginx는 연결 거부(요청을 보내기 전 오류)로 다른 인스턴스에 재시도하므로,
+ * 계속 들어오는 요청 때문에 드레인이 끝나지 않는 일이 없고 POST도 중복 처리 없이 넘어감.
+ * 커넥션 풀은 모든 라이프사이클이 멈춘 뒤 빈 소멸 단계에서 닫힘.
+ * 관리자 API로 종료 없이 드레인만 시작하거나 취소할 수도 있음.
+ */
+public class GracefulDrain implements SmartLifecycle {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final InFlightTracker tracker;
+    private final DrainProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    // 웹 서버가 새 연결을 받지 않도록 서버 소켓을 닫음
+    private final Runnable stopAccepting;
+
+    private volatile boolean running;
+
+    public GracefulDrain(InFlightTracker tracker, DrainProperties properties, ApplicationEventPublisher eventPublisher,
+                         Runnable stopAccepting) {
+        this.tracker = tracker;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.stopAccepting = stopAccepting;
+    }
+
+    /**
+     * 드레인 시작. readiness를 내리고 새 백그라운드 작업을 멈춤. (이미 드레인 중이면 무시)
+     */
+    public synchronized void startDrain() {
+        if (tracker.isDraining()) {
+            return;
+        }
+        tracker.setDraining(true);
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        log.info("드레인을 시작합니다. 처리 중: {}", tracker.getInFlight());
+    }
+
+    /**
+     * 종료 없이 시작한 드레인을 취소하고 다시 트래픽을 받음.
+     */
+    public synchronized void cancelDrain() {
+        if (!tracker.isDraining() || !running) {
+            return;
+        }
+        tracker.setDraining(false);
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        log.info("드레인을 취소했습니다.");
+    }
+
+    public boolean isDraining() {
+        return tracker.isDraining();
+    }
+
+    public int getInFlight() {
+        return tracker.getInFlight();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        long start = System.nanoTime();
+        startDrain();
+        try {
+            // 로드밸런서가 readiness 변경을 감지하기 전까지 들어오는 요청도 정상 처리
+            Thread.sleep(properties.readinessDelay().toMillis());
+            stopAccepting.run();
+            tracker.setRefusing(true);
+            if (tracker.awaitIdle(properties.timeout())) {
+                log.info("드레인 완료 ({} ms)", (System.nanoTime() - start) / 1_000_000);
+            } else {
+                log.warn("드레인 제한 시간이 지나 처리 중인 {}건을 남기고 종료합니다.", tracker.getInFlight());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)과 웹 서버 중지(DEFAULT_PHASE - 2048)보다 먼저 멈춤
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.lifecycle;
+
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 처리 중인 요청 수를 InFlightTracker에 기록하는 필터.
+ * 비동기 요청(StreamingResponseBody 등)은 최초 디스패치가 끝나도 응답이 완료될 때까지 처리 중으로 봄.
+ * 드레인 중에는 응답에 Connection: close를 붙여 nginx가 재사용 중인 연결을 닫고,
+ * 서버가 종료된 뒤 이미 닫힌 연결로 요청을 보내는 일이 없도록 함.
+ * 종료 드레인이 새 요청을 거절하는 단계에서는 서버 소켓이 닫혀 새 연결은 들어오지 않으며,
+ * 이미 열려 있던 연결로 들어온 요청만 처리하지 않고 503(SHUTTING_DOWN)과 Connection: close로 응답.
+ */
+public class InFlightRequestFilter extends OncePerRequestFilter {
+
+    private final InFlightTracker tracker;
+    private final ObjectMapper objectMapper;
+
+    public InFlightRequestFilter(InFlightTracker tracker, ObjectMapper objectMapper) {
+        this.tracker = tracker;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (tracker.isRefusing()) {
+            writeShuttingDown(response);
+            return;
+        }
+        tracker.enter();
+        boolean async = false;
+        try {
+            if (tracker.isDraining()) {
+                response.setHeader(HttpHeaders.CONNECTION, "close");
+            }
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ExitListener());
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                tracker.exit();
+            }
+        }
+    }
+
+    private void writeShuttingDown(HttpServletResponse response) throws IOException {
+        ErrorCode errorCode = ErrorCode.SHUTTING_DOWN;
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(errorCode.getStatus())
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .build();
+        response.setStatus(errorCode.getStatus());
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    // 비동기 요청은 완료, 오류, 시간 초과 중 마지막에 항상 호출되는 onComplete에서 한 번만 종료 처리
+    private class ExitListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            tracker.exit();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 같은 요청에서 비동기 처리를 다시 시작하면 새 AsyncContext에 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
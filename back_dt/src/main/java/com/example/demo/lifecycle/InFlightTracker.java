@@ -0,0 +1,95 @@
+package com.example.demo.lifecycle;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 처리 중인 요청과 백그라운드 작업 수를 추적.
+ * 요청은 드레인 중에도 받아들여 끝까지 처리하고(enter), 백그라운드 작업은 드레인 중이면 새로 시작하지 않음(tryEnter).
+ * 드레인은 이 값이 0이 될 때까지 awaitIdle로 기다림.
+ * 종료 드레인에서 readinessDelay가 지나면 새 요청은 받지 않음(refusing).
+ */
+public class InFlightTracker {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Object idle = new Object();
+    private volatile boolean draining;
+    private volatile boolean refusing;
+
+    /**
+     * 요청 처리 시작. 드레인 중이어도 이미 받은 요청은 처리해야 하므로 항상 등록.
+     */
+    public void enter() {
+        inFlight.incrementAndGet();
+    }
+
+    /**
+     * 백그라운드 작업 시작.
+     *
+     * @return 드레인 중이라 작업을 시작하면 안 되는 경우 false
+     */
+    public boolean tryEnter() {
+        if (draining) {
+            return false;
+        }
+        inFlight.incrementAndGet();
+        // 등록과 드레인 시작이 겹친 경우 작업을 시작하지 않음
+        if (draining) {
+            exit();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 요청 또는 작업 종료.
+     */
+    public void exit() {
+        if (inFlight.decrementAndGet() == 0) {
+            synchronized (idle) {
+                idle.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * 처리 중인 요청과 작업이 모두 끝날 때까지 대기.
+     *
+     * @param timeout 최대 대기 시간
+     * @return 제한 시간 안에 모두 끝났으면 true
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (idle) {
+            while (inFlight.get() > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(idle, remaining);
+            }
+        }
+        return true;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public boolean isDraining() {
+        return draining;
+    }
+
+    void setDraining(boolean draining) {
+        this.draining = draining;
+    }
+
+    public boolean isRefusing() {
+        return refusing;
+    }
+
+    void setRefusing(boolean refusing) {
+        this.refusing = refusing;
+    }
+}
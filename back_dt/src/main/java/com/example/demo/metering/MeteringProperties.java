@@ -0,0 +1,25 @@
+package com.example.demo.metering;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 API 사용량 집계 설정. (metering.*)
+ *
+ * @param enabled       사용 여부
+ * @param flushInterval 메모리 카운터를 usage_counters 테이블에 반영하는 간격
+ * @param bucket        집계 구간 크기 (사용자, 경로, 구간별로 한 행)
+ * @param batchSize     한 번의 배치 UPSERT에 담는 최대 행 수
+ * @param dailyQuota    사용자별 일일 호출 한도 (0이면 무제한, 초과해도 차단하지 않고 헤더와 지표로만 알림)
+ */
+@ConfigurationProperties(prefix = "metering")
+public record MeteringProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10s") Duration flushInterval,
+        @DefaultValue("1h") Duration bucket,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("0") long dailyQuota
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.demo.metering;
+
+import java.time.Instant;
+
+/**
+ * 마지막 반영 이후 늘어난 호출 수.
+ *
+ * @param principal   사용자 이름
+ * @param route       "메서드 경로 패턴" 형태의 경로
+ * @param bucketStart 집계 구간 시작 시각
+ * @param calls       늘어난 호출 수
+ */
+public record UsageDelta(String principal, String route, Instant bucketStart, long calls) {
+}
@@ -0,0 +1,102 @@
+package com.example.demo.metering;
+
+import com.example.demo.repository.UsageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UsageMeter의 증가분을 flushInterval마다 usage_counters 테이블에 배치 UPSERT로 반영하는 라이프사이클.
+ * 묶음마다 트랜잭션으로 기록하므로 일부만 반영된 묶음이 다음 flush에서 중복 집계되지 않으며,
+ * 웹 서버가 멈춘 뒤(DEFAULT_PHASE - 2048 이후) 마지막으로 한 번 더 반영하여 종료 직전 요청도 남김.
+ */
+public class UsageFlusher implements SmartLifecycle {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final UsageMeter usageMeter;
+    private final UsageRepository usageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long intervalMillis;
+    private final int batchSize;
+
+    private ScheduledExecutorService executor;
+
+    public UsageFlusher(UsageMeter usageMeter,
+                        UsageRepository usageRepository,
+                        PlatformTransactionManager transactionManager,
+                        MeteringProperties properties) {
+        this.usageMeter = usageMeter;
+        this.usageRepository = usageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.intervalMillis = properties.flushInterval().toMillis();
+        this.batchSize = properties.batchSize();
+    }
+
+    /**
+     * 반영 대기 중인 증가분을 모두 기록.
+     * @return 기록한 행 수
+     */
+    public int flush() {
+        return usageMeter.flush(batchSize,
+                batch -> transactionTemplate.executeWithoutResult(status -> usageRepository.upsertAll(batch)));
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "usage-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(intervalMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executor = null;
+        flushQuietly();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    // 웹 서버 중지(DEFAULT_PHASE - 2048) 이후에 멈춤
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // 기록 실패는 다음 주기에 다시 시도하므로 로그만 남김
+    private void flushQuietly() {
+        try {
+            int written = flush();
+            if (written > 0) {
+                log.debug("사용량 {}행 반영", written);
+            }
+        } catch (RuntimeException e) {
+            log.warn("사용량 반영 실패: {}", e.getMessage());
+        }
+    }
+}
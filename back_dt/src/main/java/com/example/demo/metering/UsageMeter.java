@@ -0,0 +1,209 @@
+package com.example.demo.metering;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 사용자, 경로, 집계 구간별 API 호출 수를 메모리에서 세는 미터.
+ * 요청 스레드는 LongAdder만 증가시키므로 같은 사용자의 동시 요청끼리도 경합이나 DB 쓰기가 없으며,
+ * flush가 마지막 반영 이후 늘어난 만큼만 모아 배치로 기록. 기록에 실패하면 반영 위치를 옮기지 않으므로
+ * 다음 flush에서 누락 없이 다시 기록됨.
+ * 일일 한도 판단은 이 노드의 메모리 합계만 보므로 여러 노드로 분산된 경우 근사값이며, 한도를 넘어도 요청을 막지 않음.
+ */
+public class UsageMeter {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private static final long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+    // usage_counters.route 컬럼 길이
+    private static final int MAX_ROUTE_LENGTH = 255;
+
+    private final ConcurrentHashMap<UsageKey, UsageCount> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, DailyTotal> dailyTotals = new ConcurrentHashMap<>();
+    private final long bucketMillis;
+    private final long dailyQuota;
+    private final Clock clock;
+    private final Counter quotaExceeded;
+
+    public UsageMeter(MeteringProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.bucketMillis = properties.bucket().toMillis();
+        this.dailyQuota = properties.dailyQuota();
+        this.clock = clock;
+        this.quotaExceeded = Counter.builder("app.usage.quota.exceeded")
+                .description("일일 호출 한도를 넘긴 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("app.usage.counters", counters, Map::size)
+                .description("메모리에 유지 중인 사용량 카운터 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 한 건을 기록.
+     * @param principal 사용자 이름
+     * @param route "메서드 경로 패턴" 형태의 경로
+     */
+    public void record(String principal, String route) {
+        long now = clock.millis();
+        String routeKey = route.length() > MAX_ROUTE_LENGTH ? route.substring(0, MAX_ROUTE_LENGTH) : route;
+        UsageKey key = new UsageKey(principal, routeKey, now - Math.floorMod(now, bucketMillis));
+        // 이미 있는 카운터는 잠금 없이 조회
+        UsageCount count = counters.get(key);
+        if (count == null) {
+            count = counters.computeIfAbsent(key, k -> new UsageCount());
+        }
+        count.calls.increment();
+        dailyTotal(principal, Math.floorDiv(now, DAY_MILLIS)).calls.increment();
+    }
+
+    // 오늘(UTC) 이 노드에서 기록한 사용자의 호출 수
+    public long getTodayCalls(String principal) {
+        DailyTotal total = dailyTotals.get(principal);
+        return total != null && total.day == Math.floorDiv(clock.millis(), DAY_MILLIS) ? total.calls.sum() : 0;
+    }
+
+    // 일일 호출 한도 (0이면 무제한)
+    public long getDailyQuota() {
+        return dailyQuota;
+    }
+
+    /**
+     * 사용자가 일일 한도를 넘겼는지 확인하고, 넘겼으면 지표를 증가시키고 하루에 한 번 경고 로그를 남김.
+     * @param principal 사용자 이름
+     * @return 한도 초과 여부
+     */
+    public boolean checkQuota(String principal) {
+        if (dailyQuota <= 0) {
+            return false;
+        }
+        long day = Math.floorDiv(clock.millis(), DAY_MILLIS);
+        DailyTotal total = dailyTotals.get(principal);
+        if (total == null || total.day != day || total.calls.sum() < dailyQuota) {
+            return false;
+        }
+        quotaExceeded.increment();
+        if (total.warned.compareAndSet(false, true)) {
+            log.warn("{} 사용자가 일일 호출 한도({})를 초과했습니다.", principal, dailyQuota);
+        }
+        return true;
+    }
+
+    /**
+     * 아직 반영하지 않은 사용자의 호출 수를 구간 범위로 조회.
+     * @param principal 사용자 이름
+     * @param from 구간 시작 시각 (포함)
+     * @param to 구간 시작 시각 (제외)
+     * @return 반영 대기 중인 증가분 목록
+     */
+    public List<UsageDelta> pending(String principal, Instant from, Instant to) {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+        List<UsageDelta> deltas = new ArrayList<>();
+        counters.forEach((key, count) -> {
+            if (key.principal().equals(principal) && key.bucketStart() >= fromMillis && key.bucketStart() < toMillis) {
+                long delta = count.calls.sum() - count.flushed;
+                if (delta > 0) {
+                    deltas.add(key.toDelta(delta));
+                }
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * 마지막 반영 이후 늘어난 호출 수를 batchSize 단위로 writer에 넘김.
+     * writer가 성공한 묶음만 반영 위치를 옮기고, 예외가 나면 남은 묶음과 함께 다음 호출에서 다시 기록.
+     * @param batchSize 한 번에 넘기는 최대 행 수
+     * @param writer 증가분을 저장하는 함수 (실패 시 예외)
+     * @return 기록한 행 수
+     */
+    public synchronized int flush(int batchSize, Consumer<List<UsageDelta>> writer) {
+        List<UsageCount> batchCounts = new ArrayList<>(batchSize);
+        List<Long> batchSums = new ArrayList<>(batchSize);
+        List<UsageDelta> batch = new ArrayList<>(batchSize);
+        int written = 0;
+        for (Map.Entry<UsageKey, UsageCount> entry : counters.entrySet()) {
+            UsageCount count = entry.getValue();
+            long sum = count.calls.sum();
+            if (sum > count.flushed) {
+                batch.add(entry.getKey().toDelta(sum - count.flushed));
+                batchCounts.add(count);
+                batchSums.add(sum);
+            }
+            if (batch.size() == batchSize) {
+                written += write(writer, batch, batchCounts, batchSums);
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += write(writer, batch, batchCounts, batchSums);
+        }
+        evictIdle(clock.millis());
+        return written;
+    }
+
+    private int write(Consumer<List<UsageDelta>> writer, List<UsageDelta> batch,
+                      List<UsageCount> batchCounts, List<Long> batchSums) {
+        writer.accept(List.copyOf(batch));
+        for (int i = 0; i < batchCounts.size(); i++) {
+            batchCounts.get(i).flushed = batchSums.get(i);
+        }
+        int size = batch.size();
+        batch.clear();
+        batchCounts.clear();
+        batchSums.clear();
+        return size;
+    }
+
+    // 직전 구간보다 오래되고 모두 반영된 카운터와 지난 날짜의 일일 합계 제거
+    // 구간 경계에서 늦게 도착한 기록이 사라지지 않도록 직전 구간은 남겨 둠
+    private void evictIdle(long now) {
+        long currentBucket = now - Math.floorMod(now, bucketMillis);
+        counters.entrySet().removeIf(entry -> entry.getKey().bucketStart() < currentBucket - bucketMillis
+                && entry.getValue().calls.sum() == entry.getValue().flushed);
+        long today = Math.floorDiv(now, DAY_MILLIS);
+        dailyTotals.values().removeIf(total -> total.day < today);
+    }
+
+    private DailyTotal dailyTotal(String principal, long day) {
+        DailyTotal total = dailyTotals.get(principal);
+        if (total != null && total.day == day) {
+            return total;
+        }
+        return dailyTotals.compute(principal, (k, current) -> current != null && current.day == day ? current : new DailyTotal(day));
+    }
+
+    private record UsageKey(String principal, String route, long bucketStart) {
+        UsageDelta toDelta(long calls) {
+            return new UsageDelta(principal, route, Instant.ofEpochMilli(bucketStart), calls);
+        }
+    }
+
+    private static final class UsageCount {
+        private final LongAdder calls = new LongAdder();
+        // flush 스레드만 갱신 (flush는 synchronized)
+        private volatile long flushed;
+    }
+
+    private static final class DailyTotal {
+        private final long day;
+        private final LongAdder calls = new LongAdder();
+        private final AtomicBoolean warned = new AtomicBoolean();
+
+        private DailyTotal(long day) {
+            this.day = day;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    // 처리 중인 키에 응답을 저장하고 완료 상태로 변경
+    @Modifying
+    @Query("update IdempotencyRecord r set r.status = com.example.demo.enums.IdempotencyStatus.COMPLETED, "
+            + "r.response = :response, r.expiresAt = :expiresAt "
+            + "where r.id = :id and r.status = com.example.demo.enums.IdempotencyStatus.IN_PROGRESS")
+    int complete(@Param("id") String id, @Param("response") String response, @Param("expiresAt") Instant expiresAt);
+
+    // 처리 중인 키를 해제하여 다음 재시도가 다시 처리하도록 함
+    @Modifying
+    @Query("delete from IdempotencyRecord r "
+            + "where r.id = :id and r.status = com.example.demo.enums.IdempotencyStatus.IN_PROGRESS")
+    int release(@Param("id") String id);
+
+    // 만료된 키 또는 처리 중 상태로 제한 시간이 지난(노드 장애) 키 삭제
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and (r.expiresAt < :now "
+            + "or (r.status = com.example.demo.enums.IdempotencyStatus.IN_PROGRESS and r.createdAt < :staleBefore))")
+    int deleteIfStale(@Param("id") String id, @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
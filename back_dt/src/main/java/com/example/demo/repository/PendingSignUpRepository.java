@@ -0,0 +1,60 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.PendingSignUp;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PendingSignUpRepository extends JpaRepository<PendingSignUp, Long> {
+
+    Optional<PendingSignUp> findByRequestId(String requestId);
+
+    // 대기 중이거나 처리 중 제한 시간이 지난(워커 장애) 요청의 id를 오래된 순으로 조회
+    @Query("select p.id from PendingSignUp p "
+            + "where p.status = com.example.demo.enums.SignUpStatus.PENDING "
+            + "or (p.status = com.example.demo.enums.SignUpStatus.PROCESSING and p.claimedAt < :staleBefore) "
+            + "order by p.id")
+    List<Long> findClaimableIds(@Param("staleBefore") Instant staleBefore, Pageable pageable);
+
+    /**
+     * 조회한 요청 중 아직 다른 워커가 가져가지 않은 요청만 조건부 UPDATE로 선점.
+     * 여러 노드의 워커가 같은 요청을 조회하더라도 행 단위 UPDATE는 한 워커만 성공.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update PendingSignUp p set p.status = com.example.demo.enums.SignUpStatus.PROCESSING, "
+            + "p.claimToken = :claimToken, p.claimedAt = :now, p.updatedAt = :now "
+            + "where p.id in :ids and (p.status = com.example.demo.enums.SignUpStatus.PENDING "
+            + "or (p.status = com.example.demo.enums.SignUpStatus.PROCESSING and p.claimedAt < :staleBefore))")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("claimToken") String claimToken,
+              @Param("now") Instant now,
+              @Param("staleBefore") Instant staleBefore);
+
+    List<PendingSignUp> findByClaimToken(String claimToken);
+
+    /**
+     * 처리 결과를 선점 토큰이 그대로일 때만 기록.
+     * 처리 중 제한 시간이 지나 다른 워커가 다시 선점한 요청은 늦게 끝난 배치가 덮어쓰지 않음.
+     *
+     * @return 기록한 행 수 (다시 선점된 경우 0)
+     */
+    @Modifying
+    @Query("update PendingSignUp p set p.status = :#{#result.status}, p.errorCode = :#{#result.errorCode}, "
+            + "p.encryptedPw = :#{#result.encryptedPw}, p.claimToken = :#{#result.claimToken}, "
+            + "p.claimedAt = :#{#result.claimedAt}, p.updatedAt = :#{#result.updatedAt} "
+            + "where p.id = :#{#result.id} and p.claimToken = :claimToken")
+    int saveIfClaimed(@Param("result") PendingSignUp result, @Param("claimToken") String claimToken);
+
+    // 보관 기간이 지난 완료, 실패 요청 삭제
+    @Modifying
+    @Query("delete from PendingSignUp p where p.status in (com.example.demo.enums.SignUpStatus.COMPLETED, "
+            + "com.example.demo.enums.SignUpStatus.FAILED) and p.updatedAt < :before")
+    int deleteFinishedBefore(@Param("before") Instant before);
+}
@@ -0,0 +1,16 @@
+package com.example.demo.repository;
+
+import com.example.demo.metering.UsageDelta;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public interface UsageRepository {
+
+    // 사용자, 경로, 구간별 호출 수를 기존 값에 더하거나 새로 저장
+    void upsertAll(List<UsageDelta> deltas);
+
+    // 구간 시작 시각이 [from, to)인 사용자의 경로별 호출 수 합계
+    Map<String, Long> sumByRoute(String principal, Instant from, Instant to);
+}
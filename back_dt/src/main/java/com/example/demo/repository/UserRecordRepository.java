@@ -0,0 +1,25 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.UserRecord;
+
+import java.util.Optional;
+
+/**
+ * 회원 데이터 접근 인터페이스.
+ * 기본 구현은 JPA(JpaUserRecordRepository)이며, jdbc 프로필에서는 JdbcClient 기반 구현(JdbcUserRecordRepository)을,
+ * sharded 프로필에서는 사용자 이름 해시로 여러 DB에 나누어 저장하는 구현(ShardedUserRecordRepository)을 사용.
+ */
+public interface UserRecordRepository {
+
+    Optional<UserRecord> findByUsername(String username);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    boolean existsByNickname(String nickname);
+
+    UserRecord save(UserRecord user);
+
+    void updateToken(String username, String token);
+}
@@ -2,6 +2,10 @@ package com.example.demo.repository;
 
 import com.example.demo.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -11,4 +15,16 @@ public interface UserRepository extends JpaRepository<User,Long> {
     Optional<User> findByNickname(String nickname);
 
     Optional<User> findByEmail(String email);
+
+    boolean existsByUsername(String username);
+
+    boolean existsByNickname(String nickname);
+
+    boolean existsByEmail(String email);
+
+    // 엔티티 조회 없이 RefreshToken만 갱신
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.token = :token where u.username = :username")
+    int updateToken(@Param("username") String username, @Param("token") String token);
 }
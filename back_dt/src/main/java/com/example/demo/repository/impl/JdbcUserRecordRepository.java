@@ -0,0 +1,96 @@
+package com.example.demo.repository.impl;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.id.IdGenerator;
+import com.example.demo.enums.Role;
+import com.example.demo.repository.UserRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * JdbcClient 기반 회원 데이터 접근 구현체. (jdbc 프로필, sharded 프로필과 함께 켜면 ShardedUserRecordRepository 사용)
+ * 엔티티 하이드레이션, 영속성 컨텍스트, 더티 체킹 없이 조회 결과를 UserRecord로 바로 매핑.
+ */
+@Repository
+@Profile("jdbc & !sharded")
+@RequiredArgsConstructor
+public class JdbcUserRecordRepository implements UserRecordRepository {
+
+    static final String SELECT_COLUMNS =
+            "select uid, username, user_pw, email, nickname, role, phone, token from users ";
+
+    // role 컬럼은 JPA 기본 매핑(EnumType.ORDINAL)과 동일하게 순번으로 저장됨
+    static final RowMapper<UserRecord> ROW_MAPPER = (rs, rowNum) -> {
+        int ordinal = rs.getInt("role");
+        Role role = rs.wasNull() ? null : Role.values()[ordinal];
+        return new UserRecord(
+                rs.getLong("uid"),
+                rs.getString("username"),
+                rs.getString("user_pw"),
+                rs.getString("email"),
+                rs.getString("nickname"),
+                role,
+                rs.getString("phone"),
+                rs.getString("token"));
+    };
+
+    private final JdbcClient jdbcClient;
+    private final IdGenerator idGenerator;
+
+    @Override
+    public Optional<UserRecord> findByUsername(String username) {
+        return jdbcClient.sql(SELECT_COLUMNS + "where username = ?")
+                .param(username)
+                .query(ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return exists("username", username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return exists("email", email);
+    }
+
+    @Override
+    public boolean existsByNickname(String nickname) {
+        return exists("nickname", nickname);
+    }
+
+    @Override
+    public UserRecord save(UserRecord user) {
+        // 생성된 키를 돌려받을 필요가 없도록 uid를 먼저 발급
+        long uid = idGenerator.nextId();
+        jdbcClient.sql("insert into users (uid, username, user_pw, email, nickname, role, phone, token) "
+                        + "values (?, ?, ?, ?, ?, ?, ?, ?)")
+                .params(uid, user.username(), user.pw(), user.email(), user.nickname(),
+                        user.role() == null ? null : user.role().ordinal(), user.phone(), user.token())
+                .update();
+        return new UserRecord(uid, user.username(), user.pw(), user.email(),
+                user.nickname(), user.role(), user.phone(), user.token());
+    }
+
+    @Override
+    public void updateToken(String username, String token) {
+        jdbcClient.sql("update users set token = ? where username = ?")
+                .params(token, username)
+                .update();
+    }
+
+    // column은 내부 상수만 전달되므로 SQL 인젝션 위험 없음
+    private boolean exists(String column, String value) {
+        return jdbcClient.sql("select 1 from users where " + column + " = ? limit 1")
+                .param(value)
+                .query(Integer.class)
+                .optional()
+                .isPresent();
+    }
+}
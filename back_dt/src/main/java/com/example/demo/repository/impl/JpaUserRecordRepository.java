@@ -0,0 +1,54 @@
+package com.example.demo.repository.impl;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA(UserRepository) 기반 회원 데이터 접근 구현체.
+ * jdbc, sharded 프로필이 활성화되지 않은 경우의 기본 구현.
+ */
+@Repository
+@Profile("!jdbc & !sharded")
+@RequiredArgsConstructor
+public class JpaUserRecordRepository implements UserRecordRepository {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Optional<UserRecord> findByUsername(String username) {
+        return userRepository.findByUsername(username).map(UserRecord::from);
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return userRepository.existsByUsername(username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return userRepository.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsByNickname(String nickname) {
+        return userRepository.existsByNickname(nickname);
+    }
+
+    @Override
+    public UserRecord save(UserRecord user) {
+        // 식별자를 미리 발급하므로 INSERT가 커밋 시점까지 미뤄짐.
+        // 다른 구현체와 같이 제약조건 위반을 호출 시점에 드러내도록 바로 flush
+        return UserRecord.from(userRepository.saveAndFlush(user.toEntity()));
+    }
+
+    @Override
+    public void updateToken(String username, String token) {
+        userRepository.updateToken(username, token);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.repository.impl;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.id.IdGenerator;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.repository.shard.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 여러 샤드 DB에 회원을 나누어 저장하는 구현체. (sharded 프로필)
+ * users 행은 사용자 이름 해시로, 이메일과 닉네임 중복 체크용 보조 테이블 행은 각각 이메일, 닉네임 해시로 샤드를 결정.
+ * 샤드 사이에는 분산 트랜잭션이 없으므로 가입 시 보조 테이블에 이메일, 닉네임을 먼저 선점하고
+ * 회원 저장이 실패하면 선점한 행을 삭제하여 되돌림.
+ * uid는 IdGenerator로 발급하여 모든 샤드에서 유일하며, 모든 조회는 사용자 이름으로 이루어짐.
+ */
+@Repository
+@Profile("sharded")
+@RequiredArgsConstructor
+public class ShardedUserRecordRepository implements UserRecordRepository {
+
+    private final ShardRouter shardRouter;
+    private final IdGenerator idGenerator;
+
+    @Override
+    public Optional<UserRecord> findByUsername(String username) {
+        return userShard(username).sql(JdbcUserRecordRepository.SELECT_COLUMNS + "where username = ?")
+                .param(username)
+                .query(JdbcUserRecordRepository.ROW_MAPPER)
+                .optional();
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        return exists(userShard(username), "select 1 from users where username = ? limit 1", username);
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return exists(shard(email), "select 1 from user_email_index where email = ?", email);
+    }
+
+    @Override
+    public boolean existsByNickname(String nickname) {
+        return exists(shard(nickname), "select 1 from user_nickname_index where nickname = ?", nickname);
+    }
+
+    @Override
+    public UserRecord save(UserRecord user) {
+        // 이메일, 닉네임 선점 (중복이면 DuplicateKeyException)
+        boolean emailClaimed = false;
+        boolean nicknameClaimed = false;
+        try {
+            emailClaimed = claim("user_email_index", "email", user.email(), user.username());
+            nicknameClaimed = claim("user_nickname_index", "nickname", user.nickname(), user.username());
+
+            // uid는 전역에서 유일한 Snowflake 값이므로 리샤딩으로 샤드를 옮겨도 그대로 유지
+            long uid = idGenerator.nextId();
+            userShard(user.username())
+                    .sql("insert into users (uid, username, user_pw, email, nickname, role, phone, token) "
+                            + "values (?, ?, ?, ?, ?, ?, ?, ?)")
+                    .params(uid, user.username(), user.pw(), user.email(), user.nickname(),
+                            user.role() == null ? null : user.role().ordinal(), user.phone(), user.token())
+                    .update();
+            return new UserRecord(uid, user.username(), user.pw(), user.email(),
+                    user.nickname(), user.role(), user.phone(), user.token());
+        } catch (RuntimeException e) {
+            // 이번 요청이 선점한 행만 되돌림
+            if (nicknameClaimed) {
+                release("user_nickname_index", "nickname", user.nickname(), user.username());
+            }
+            if (emailClaimed) {
+                release("user_email_index", "email", user.email(), user.username());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void updateToken(String username, String token) {
+        userShard(username).sql("update users set token = ? where username = ?")
+                .params(token, username)
+                .update();
+    }
+
+    private JdbcClient userShard(String username) {
+        return shard(username);
+    }
+
+    private JdbcClient shard(String key) {
+        return shardRouter.shardFor(key).jdbcClient();
+    }
+
+    // table, column은 내부 상수만 전달되므로 SQL 인젝션 위험 없음
+    private boolean claim(String table, String column, String value, String username) {
+        if (value == null) {
+            return false;
+        }
+        int inserted = shard(value).sql("insert into " + table + " (" + column + ", username) values (?, ?)")
+                .params(value, username)
+                .update();
+        if (inserted != 1) {
+            throw new DataIntegrityViolationException(table + " 선점 실패");
+        }
+        return true;
+    }
+
+    private void release(String table, String column, String value, String username) {
+        shard(value).sql("delete from " + table + " where " + column + " = ? and username = ?")
+                .params(value, username)
+                .update();
+    }
+
+    private boolean exists(JdbcClient shard, String sql, String value) {
+        return shard.sql(sql)
+                .param(value)
+                .query(Integer.class)
+                .optional()
+                .isPresent();
+    }
+}
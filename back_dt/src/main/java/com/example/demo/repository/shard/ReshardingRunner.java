@@ -0,0 +1,53 @@
+package com.example.demo.repository.shard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 리샤딩 도구 실행기. (sharded, reshard 프로필을 함께 활성화)
+ * sharding.shards를 현재 구성으로, resharding.target-shards를 새 구성으로 보고 행을 옮긴 뒤 종료.
+ * 실행 후에는 sharding.shards를 새 구성으로 바꾸고 애플리케이션을 다시 기동.
+ */
+@Component
+@Profile("reshard")
+public class ReshardingRunner implements ApplicationRunner {
+
+    private final ShardRouter shardRouter;
+    private final Environment environment;
+    private final ConfigurableApplicationContext context;
+    private final boolean exitOnFinish;
+
+    public ReshardingRunner(ShardRouter shardRouter,
+                            Environment environment,
+                            ConfigurableApplicationContext context,
+                            @Value("${resharding.exit-on-finish:true}") boolean exitOnFinish) {
+        this.shardRouter = shardRouter;
+        this.environment = environment;
+        this.context = context;
+        this.exitOnFinish = exitOnFinish;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<ShardingProperties.ShardProperties> targets = Binder.get(environment)
+                .bind("resharding.target-shards", Bindable.listOf(ShardingProperties.ShardProperties.class))
+                .orElseThrow(() -> new IllegalStateException("resharding.target-shards 설정이 필요합니다."));
+
+        try (ShardDataSources target = new ShardDataSources("reshard-target", targets, true)) {
+            new ShardRebalancer().rebalance(shardRouter, target.getRouter());
+        }
+        if (exitOnFinish) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+}
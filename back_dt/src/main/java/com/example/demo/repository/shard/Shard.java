@@ -0,0 +1,13 @@
+package com.example.demo.repository.shard;
+
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * 샤드 하나의 접속 정보.
+ *
+ * @param index      라우팅에 사용하는 샤드 번호
+ * @param url        JDBC URL (리샤딩 시 같은 DB인지 판별하는 데 사용)
+ * @param jdbcClient 샤드 DB에 연결된 JdbcClient
+ */
+public record Shard(int index, String url, JdbcClient jdbcClient) {
+}
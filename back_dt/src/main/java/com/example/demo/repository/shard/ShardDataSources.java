@@ -0,0 +1,75 @@
+package com.example.demo.repository.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 샤드 설정으로 샤드별 커넥션 풀과 ShardRouter를 만드는 클래스.
+ * 애플리케이션과 리샤딩 도구가 같은 방식으로 샤드에 연결하도록 공통으로 사용.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private static final String SCHEMA = "db/shard-schema.sql";
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private final ShardRouter router;
+
+    public ShardDataSources(String poolNamePrefix, List<ShardingProperties.ShardProperties> shards,
+                            boolean initializeSchema) {
+        this(poolNamePrefix, shards, initializeSchema, null, (name, dataSource) -> dataSource);
+    }
+
+    /**
+     * @param queryTimeout 샤드 쿼리 타임아웃 (null이면 제한 없음)
+     * @param decorator    쿼리에 사용할 DataSource를 감싸는 함수 (풀 이름, 샤드 풀), SQL 프로파일러 등에 사용
+     */
+    public ShardDataSources(String poolNamePrefix, List<ShardingProperties.ShardProperties> shards,
+                            boolean initializeSchema, Duration queryTimeout,
+                            BiFunction<String, DataSource, DataSource> decorator) {
+        List<Shard> routes = new ArrayList<>(shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            ShardingProperties.ShardProperties properties = shards.get(i);
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName(poolNamePrefix + "-" + i);
+            dataSource.setJdbcUrl(properties.url());
+            dataSource.setUsername(properties.username());
+            dataSource.setPassword(properties.password());
+            if (properties.driverClassName() != null) {
+                dataSource.setDriverClassName(properties.driverClassName());
+            }
+            dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+            // 기본 DataSource와 같이 DB가 멈춰도 무기한 대기하지 않도록 제한
+            dataSource.setConnectionTimeout(2000);
+            dataSource.setValidationTimeout(1000);
+            dataSources.add(dataSource);
+
+            if (initializeSchema) {
+                new ResourceDatabasePopulator(new ClassPathResource(SCHEMA)).execute(dataSource);
+            }
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(decorator.apply(dataSource.getPoolName(), dataSource));
+            if (queryTimeout != null) {
+                jdbcTemplate.setQueryTimeout((int) queryTimeout.toSeconds());
+            }
+            routes.add(new Shard(i, properties.url(), JdbcClient.create(jdbcTemplate)));
+        }
+        this.router = new ShardRouter(routes);
+    }
+
+    public ShardRouter getRouter() {
+        return router;
+    }
+
+    @Override
+    public void close() {
+        dataSources.forEach(HikariDataSource::close);
+    }
+}
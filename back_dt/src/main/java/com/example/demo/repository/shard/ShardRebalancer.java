@@ -0,0 +1,115 @@
+package com.example.demo.repository.shard;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 샤드 구성이 바뀌었을 때 기존 샤드의 행을 새 구성에 맞는 샤드로 옮기는 오프라인 리샤딩 도구.
+ * 애플리케이션을 모두 중지한 상태에서 실행해야 하며, 행마다 대상 샤드에 먼저 복사한 뒤 원본을 삭제하므로
+ * 중간에 실패하더라도 같은 설정으로 다시 실행하면 이어서 진행.
+ * 원본과 대상의 JDBC URL이 같은 샤드는 같은 DB로 보고 행을 옮기지 않음.
+ */
+public class ShardRebalancer {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String USER_COLUMNS = "username, user_pw, email, nickname, role, phone, token";
+
+    /**
+     * 원본 샤드의 모든 행을 대상 라우터 기준으로 재배치.
+     *
+     * @param source 현재 샤드 구성
+     * @param target 새 샤드 구성
+     * @return 테이블별로 이동한 행 수
+     */
+    public Map<String, Long> rebalance(ShardRouter source, ShardRouter target) {
+        long users = 0;
+        long emails = 0;
+        long nicknames = 0;
+        for (Shard shard : source.getShards()) {
+            users += moveUsers(shard, target);
+            emails += moveIndex(shard, target, "user_email_index", "email");
+            nicknames += moveIndex(shard, target, "user_nickname_index", "nickname");
+        }
+        log.info("리샤딩 완료 - users: {}, user_email_index: {}, user_nickname_index: {}", users, emails, nicknames);
+        return Map.of("users", users, "user_email_index", emails, "user_nickname_index", nicknames);
+    }
+
+    // uid 순서로 끊어 읽으며 이동 대상인 회원을 옮김. uid는 전역에서 유일하므로 그대로 복사
+    private long moveUsers(Shard shard, ShardRouter target) {
+        long moved = 0;
+        long lastUid = 0;
+        while (true) {
+            List<Map<String, Object>> rows = shard.jdbcClient()
+                    .sql("select uid, " + USER_COLUMNS + " from users where uid > ? order by uid limit ?")
+                    .params(lastUid, BATCH_SIZE)
+                    .query()
+                    .listOfRows();
+            for (Map<String, Object> row : rows) {
+                String username = (String) row.get("username");
+                Shard destination = target.shardFor(username);
+                if (!destination.url().equals(shard.url())) {
+                    copy(destination.jdbcClient(),
+                            "insert into users (uid, " + USER_COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?)",
+                            row.get("uid"), username, row.get("user_pw"), row.get("email"), row.get("nickname"),
+                            row.get("role"), row.get("phone"), row.get("token"));
+                    shard.jdbcClient().sql("delete from users where username = ?").param(username).update();
+                    moved++;
+                }
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+            lastUid = ((Number) rows.get(rows.size() - 1).get("uid")).longValue();
+        }
+        log.info("샤드 {} users {}건 이동", shard.index(), moved);
+        return moved;
+    }
+
+    // 보조 테이블은 키 순서로 끊어 읽으며 옮김. table, column은 내부 상수만 전달
+    private long moveIndex(Shard shard, ShardRouter target, String table, String column) {
+        long moved = 0;
+        String lastKey = "";
+        while (true) {
+            List<Map<String, Object>> rows = shard.jdbcClient()
+                    .sql("select " + column + ", username from " + table
+                            + " where " + column + " > ? order by " + column + " limit ?")
+                    .params(lastKey, BATCH_SIZE)
+                    .query()
+                    .listOfRows();
+            for (Map<String, Object> row : rows) {
+                String key = (String) row.get(column);
+                Shard destination = target.shardFor(key);
+                if (!destination.url().equals(shard.url())) {
+                    copy(destination.jdbcClient(), "insert into " + table + " (" + column + ", username) values (?, ?)",
+                            key, row.get("username"));
+                    shard.jdbcClient().sql("delete from " + table + " where " + column + " = ?").param(key).update();
+                    moved++;
+                }
+            }
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+            lastKey = (String) rows.get(rows.size() - 1).get(column);
+        }
+        log.info("샤드 {} {} {}건 이동", shard.index(), table, moved);
+        return moved;
+    }
+
+    // 이전 실행에서 이미 복사된 행이면 중복 키 오류를 무시하고 원본 삭제만 진행
+    private void copy(JdbcClient destination, String sql, Object... params) {
+        try {
+            destination.sql(sql).params(params).update();
+        } catch (DuplicateKeyException e) {
+            log.debug("이미 복사된 행입니다. {}", params[0]);
+        }
+    }
+}
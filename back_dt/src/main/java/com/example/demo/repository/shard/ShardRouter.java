@@ -0,0 +1,65 @@
+package com.example.demo.repository.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 키의 안정적인 해시로 샤드를 고르는 라우터.
+ * 키는 UTF-8 바이트의 FNV-1a 64비트 해시로 바꾼 뒤 Jump Consistent Hash로 샤드에 배정하므로
+ * JVM이나 노드가 달라도 같은 샤드로 가며, 샤드를 N개에서 N+1개로 늘리면 약 1/(N+1)의 키만 새 샤드로 이동.
+ */
+public class ShardRouter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<Shard> shards;
+
+    public ShardRouter(List<Shard> shards) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 하나 이상 필요합니다.");
+        }
+        this.shards = List.copyOf(shards);
+    }
+
+    // 키가 저장되는 샤드
+    public Shard shardFor(String key) {
+        return shards.get(shardIndex(key, shards.size()));
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * 키를 샤드 번호로 변환.
+     *
+     * @param key        라우팅 키 (사용자 이름, 이메일, 닉네임)
+     * @param shardCount 샤드 수
+     * @return 0 이상 shardCount 미만의 샤드 번호
+     */
+    public static int shardIndex(String key, int shardCount) {
+        return jumpConsistentHash(fnv1a64(key.getBytes(StandardCharsets.UTF_8)), shardCount);
+    }
+
+    static long fnv1a64(byte[] bytes) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    // Lamping, Veach - "A Fast, Minimal Memory, Consistent Hash Algorithm"
+    static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
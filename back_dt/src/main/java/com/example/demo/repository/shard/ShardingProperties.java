@@ -0,0 +1,24 @@
+package com.example.demo.repository.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * 샤드 DB 설정. (sharded 프로필)
+ *
+ * @param initializeSchema 기동 시 각 샤드에 db/shard-schema.sql 적용 여부
+ * @param shards           샤드 목록, 목록 순서가 샤드 번호이므로 기존 샤드의 순서를 바꾸지 말 것
+ */
+@ConfigurationProperties(prefix = "sharding")
+public record ShardingProperties(@DefaultValue("true") boolean initializeSchema,
+                                 List<ShardProperties> shards) {
+
+    public record ShardProperties(String url,
+                                  String username,
+                                  String password,
+                                  String driverClassName,
+                                  @DefaultValue("10") int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시에 실행 가능한 호출 수를 제한하는 세마포어 기반 bulkhead.
+ */
+public class Bulkhead {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore semaphore;
+
+    public Bulkhead(int maxConcurrent, Duration maxWait) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.semaphore = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 최대 대기 시간까지 실행 허가를 기다림.
+     *
+     * @return 허가를 얻으면 true, 대기 시간이 지나면 false
+     */
+    public boolean tryAcquire() {
+        try {
+            return semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    // 현재 실행 중인 호출 수
+    public int getActive() {
+        return maxConcurrent - semaphore.availablePermits();
+    }
+}
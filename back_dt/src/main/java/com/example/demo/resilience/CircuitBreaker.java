@@ -0,0 +1,114 @@
+package com.example.demo.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연속 실패(또는 느린 호출) 횟수가 임계치를 넘으면 일정 시간 호출을 즉시 거절하는 서킷 브레이커.
+ * CLOSED → (연속 실패) → OPEN → (대기 시간 경과) → HALF_OPEN → 시험 호출 1건의 결과로 CLOSED 또는 OPEN.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 호출 허가 종류. 결과 기록과 반납 시 그대로 돌려주어, 시험 호출의 결과만 HALF_OPEN 상태를 바꾸도록 함.
+     */
+    public enum Permission {
+        // 거절됨
+        DENIED,
+        // CLOSED 상태에서 받은 일반 허가
+        NORMAL,
+        // HALF_OPEN 상태의 시험 호출 허가 (동시에 1건)
+        TRIAL;
+
+        public boolean isGranted() {
+            return this != DENIED;
+        }
+    }
+
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, Duration slowCallThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * 호출 허가. OPEN 상태에서 대기 시간이 지나면 HALF_OPEN으로 바꾸고 시험 호출 1건만 허가.
+     */
+    public Permission tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return Permission.NORMAL;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return Permission.DENIED;
+            }
+            state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return trialInFlight.compareAndSet(false, true) ? Permission.TRIAL : Permission.DENIED;
+    }
+
+    // 허가를 받았지만 실행하지 않은 경우 시험 호출 자리를 반납
+    public void releasePermission(Permission permission) {
+        if (permission == Permission.TRIAL) {
+            trialInFlight.set(false);
+        }
+    }
+
+    /**
+     * 호출 성공 기록. 느린 호출은 실패로 간주.
+     * CLOSED 상태에서 시작한 호출이 OPEN/HALF_OPEN 이후에 끝나면 상태를 바꾸지 않음.
+     *
+     * @param permission   호출 시작 시 받은 허가
+     * @param elapsedNanos 호출 소요 시간
+     */
+    public void onSuccess(Permission permission, long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            onFailure(permission);
+            return;
+        }
+        if (permission == Permission.TRIAL) {
+            consecutiveFailures.set(0);
+            state.compareAndSet(State.HALF_OPEN, State.CLOSED);
+            trialInFlight.set(false);
+        } else if (state.get() == State.CLOSED) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    // 호출 실패 기록
+    public void onFailure(Permission permission) {
+        if (permission == Permission.TRIAL) {
+            open(State.HALF_OPEN);
+            trialInFlight.set(false);
+        } else if (state.get() == State.CLOSED && consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(State.CLOSED);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private void open(State from) {
+        openedAt = System.nanoTime();
+        if (state.compareAndSet(from, State.OPEN)) {
+            consecutiveFailures.set(0);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.resilience;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 구획별 bulkhead와 DB 전체에 대한 서킷 브레이커로 DB 호출을 보호.
+ * DB가 멈추거나 느려지면 스레드가 쌓이기 전에 DB_BUSY / DB_UNAVAILABLE(503)로 즉시 실패.
+ */
+public class DatabaseGuard {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final CircuitBreaker circuitBreaker;
+    private final Map<DbLane, Bulkhead> bulkheads = new EnumMap<>(DbLane.class);
+    private final Map<DbLane, Counter> rejections = new EnumMap<>(DbLane.class);
+
+    public DatabaseGuard(DatabaseGuardProperties properties, MeterRegistry meterRegistry) {
+        DatabaseGuardProperties.CircuitBreakerProperties breaker = properties.circuitBreaker();
+        this.circuitBreaker = new CircuitBreaker(
+                breaker.failureThreshold(), breaker.slowCallThreshold(), breaker.openDuration());
+        Gauge.builder("db.guard.circuit.open", circuitBreaker, cb -> cb.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .description("DB 서킷 브레이커가 열려 있으면 1")
+                .register(meterRegistry);
+
+        for (DbLane lane : DbLane.values()) {
+            DatabaseGuardProperties.BulkheadProperties bulkhead = properties.bulkhead(lane);
+            Bulkhead laneBulkhead = new Bulkhead(bulkhead.maxConcurrent(), bulkhead.maxWait());
+            bulkheads.put(lane, laneBulkhead);
+            Gauge.builder("db.guard.bulkhead.active", laneBulkhead, Bulkhead::getActive)
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+            rejections.put(lane, Counter.builder("db.guard.rejected")
+                    .tag("lane", lane.name())
+                    .description("bulkhead 또는 서킷 브레이커로 거절된 DB 호출 수")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 지정한 구획에서 DB 호출을 실행.
+     *
+     * @param lane   DB 접근 구획
+     * @param action 실행할 DB 호출
+     * @return 호출 결과
+     * @throws CustomException 서킷 브레이커가 열려 있거나(DB_UNAVAILABLE) 구획이 가득 찬 경우(DB_BUSY)
+     */
+    public <T> T call(DbLane lane, Supplier<T> action) {
+        CircuitBreaker.Permission permission = circuitBreaker.tryAcquirePermission();
+        if (!permission.isGranted()) {
+            rejections.get(lane).increment();
+            throw new CustomException(ErrorCode.DB_UNAVAILABLE);
+        }
+        Bulkhead bulkhead = bulkheads.get(lane);
+        if (!bulkhead.tryAcquire()) {
+            circuitBreaker.releasePermission(permission);
+            rejections.get(lane).increment();
+            throw new CustomException(ErrorCode.DB_BUSY);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            circuitBreaker.onSuccess(permission, System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            // 중복 키, 인증 실패 같은 업무 예외는 DB 상태와 무관하므로 성공으로 기록
+            if (isDatabaseFailure(e)) {
+                log.warn("DB 호출 실패 ({}) : {}", lane, e.getMessage());
+                circuitBreaker.onFailure(permission);
+            } else {
+                circuitBreaker.onSuccess(permission, System.nanoTime() - start);
+            }
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // 커넥션 획득 실패, 타임아웃 등 DB 장애로 볼 수 있는 예외인지 원인까지 확인
+    public static boolean isDatabaseFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof TransactionTimedOutException
+                    || cause instanceof SQLTransientException
+                    || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
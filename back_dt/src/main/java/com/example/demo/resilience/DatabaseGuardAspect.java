@@ -0,0 +1,59 @@
+package com.example.demo.resilience;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * @DatabaseLane 메서드를 DatabaseGuard로 감싸는 Aspect.
+ * 트랜잭션 인터셉터보다 먼저 실행되어 커넥션 획득 단계의 장애도 서킷 브레이커에 반영되며,
+ * 이미 보호 중인 호출 안에서 다시 호출되면 허가를 중복으로 얻지 않음.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class DatabaseGuardAspect {
+
+    private static final ThreadLocal<Boolean> GUARDED = new ThreadLocal<>();
+
+    private final DatabaseGuard databaseGuard;
+
+    public DatabaseGuardAspect(DatabaseGuard databaseGuard) {
+        this.databaseGuard = databaseGuard;
+    }
+
+    @Around("@annotation(databaseLane)")
+    public Object guard(ProceedingJoinPoint joinPoint, DatabaseLane databaseLane) throws Throwable {
+        if (GUARDED.get() != null) {
+            return joinPoint.proceed();
+        }
+        GUARDED.set(Boolean.TRUE);
+        try {
+            return databaseGuard.call(databaseLane.value(), () -> proceed(joinPoint));
+        } catch (UndeclaredCheckedException e) {
+            throw e.getCause();
+        } finally {
+            GUARDED.remove();
+        }
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredCheckedException(e);
+        }
+    }
+
+    // Supplier 안에서 발생한 checked 예외를 밖으로 전달하기 위한 래퍼
+    private static class UndeclaredCheckedException extends RuntimeException {
+        UndeclaredCheckedException(Throwable cause) {
+            super(cause);
+        }
+    }
+}
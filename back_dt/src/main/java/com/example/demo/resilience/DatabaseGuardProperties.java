@@ -0,0 +1,52 @@
+package com.example.demo.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DB 보호 설정. (db-guard.*)
+ *
+ * @param circuitBreaker 서킷 브레이커 설정
+ * @param bulkheads      구획별 bulkhead 설정 (설정하지 않은 구획은 기본값 사용)
+ */
+@ConfigurationProperties(prefix = "db-guard")
+public record DatabaseGuardProperties(
+        @DefaultValue CircuitBreakerProperties circuitBreaker,
+        Map<DbLane, BulkheadProperties> bulkheads
+) {
+
+    public DatabaseGuardProperties {
+        bulkheads = bulkheads == null ? new EnumMap<>(DbLane.class) : new EnumMap<>(bulkheads);
+    }
+
+    public BulkheadProperties bulkhead(DbLane lane) {
+        return bulkheads.getOrDefault(lane, BulkheadProperties.DEFAULT);
+    }
+
+    /**
+     * @param failureThreshold  OPEN으로 전환할 연속 실패 횟수
+     * @param slowCallThreshold 이 시간보다 오래 걸린 호출은 실패로 간주
+     * @param openDuration      OPEN 상태 유지 시간
+     */
+    public record CircuitBreakerProperties(
+            @DefaultValue("5") int failureThreshold,
+            @DefaultValue("2s") Duration slowCallThreshold,
+            @DefaultValue("10s") Duration openDuration
+    ) {
+    }
+
+    /**
+     * @param maxConcurrent 동시에 DB에 접근할 수 있는 호출 수
+     * @param maxWait       실행 허가를 기다리는 최대 시간
+     */
+    public record BulkheadProperties(
+            @DefaultValue("10") int maxConcurrent,
+            @DefaultValue("100ms") Duration maxWait
+    ) {
+        static final BulkheadProperties DEFAULT = new BulkheadProperties(10, Duration.ofMillis(100));
+    }
+}
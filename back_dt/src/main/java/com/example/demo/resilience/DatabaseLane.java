@@ -0,0 +1,18 @@
+package com.example.demo.resilience;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 메서드의 DB 접근을 지정한 구획의 bulkhead와 서킷 브레이커로 보호.
+ * 트랜잭션 시작(커넥션 획득)까지 보호하도록 DatabaseGuardAspect는 트랜잭션 인터셉터보다 먼저 실행됨.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DatabaseLane {
+    DbLane value();
+}
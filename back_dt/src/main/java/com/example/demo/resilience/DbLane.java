@@ -0,0 +1,9 @@
+package com.example.demo.resilience;
+
+/**
+ * DB 접근을 트래픽 종류별로 나누는 구획(bulkhead) 구분.
+ * 조회 트래픽이 몰려도 로그인 경로의 DB 접근은 별도 한도로 보호됨.
+ */
+public enum DbLane {
+    LOGIN, SIGNUP, LOOKUP
+}
@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.resilience.DatabaseGuard;
+import com.example.demo.resilience.DbLane;
+import com.example.demo.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 이름으로 회원을 조회할 때 같은 사용자에 대한 동시 조회를 하나의 쿼리로 합치는 컴포넌트.
+ * 인기 계정 로그인 폭주나 서비스 계정의 동시 요청 시 CustomUserDetailsService와 getMyInfo에서 사용.
+ * UserRecord는 불변이므로 여러 요청이 같은 결과를 안전하게 공유할 수 있음.
+ * DB 구획(bulkhead, 서킷 브레이커)은 실제로 쿼리를 실행하는 첫 요청에만 적용하여,
+ * 결과를 기다리기만 하는 요청이 구획 자리를 차지하거나 느린 호출로 집계되지 않도록 함.
+ */
+@Component
+public class CoalescingUserLookup {
+
+    private final UserRecordRepository userRecordRepository;
+    private final DatabaseGuard databaseGuard;
+    private final SingleFlight<String, Optional<UserRecord>> singleFlight;
+
+    public CoalescingUserLookup(UserRecordRepository userRecordRepository,
+                                DatabaseGuard databaseGuard,
+                                MeterRegistry meterRegistry,
+                                @Value("${user-lookup.coalesce-timeout:2s}") Duration timeout) {
+        this.userRecordRepository = userRecordRepository;
+        this.databaseGuard = databaseGuard;
+        this.singleFlight = new SingleFlight<>(timeout);
+
+        // 실제 DB 조회 횟수와 합치기로 절약한 조회 횟수
+        FunctionCounter.builder("user.lookup.executions", singleFlight, SingleFlight::getExecutions)
+                .description("DB에서 실제로 실행한 회원 조회 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.lookup.coalesced", singleFlight, SingleFlight::getShared)
+                .description("동시 조회를 합쳐 절약한 DB 호출 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 이름으로 회원 조회. 같은 사용자 이름으로 진행 중인 조회가 있으면 그 결과를 공유.
+     *
+     * @param username 조회할 사용자 이름
+     * @param lane     실제 조회를 실행할 DB 구획
+     * @return 조회된 회원 정보
+     */
+    public Optional<UserRecord> findByUsername(String username, DbLane lane) {
+        return singleFlight.execute(username,
+                () -> databaseGuard.call(lane, () -> userRecordRepository.findByUsername(username)));
+    }
+
+    public long getSavedCalls() {
+        return singleFlight.getShared();
+    }
+}
@@ -1,16 +1,15 @@
 package com.example.demo.service;
 
-import com.example.demo.domain.User;
-import com.example.demo.repository.UserRepository;
+import com.example.demo.domain.UserRecord;
+import com.example.demo.resilience.DbLane;
 import lombok.AllArgsConstructor;
+import com.example.demo.jwt.RoleAuthorities;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,7 +19,8 @@ import java.util.List;
 @AllArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UserRepository userRepository;
+    // 같은 사용자에 대한 동시 조회는 하나의 쿼리로 합치고, 그 쿼리만 LOGIN 구획으로 보호 (비밀번호 비교는 구획 밖에서 수행)
+    private final CoalescingUserLookup coalescingUserLookup;
 
     /**
      * 사용자 이름(username)을 기반으로 데이터베이스에서 사용자 정보를 조회하여 UserDetails 인터페이스를 구현.
@@ -31,7 +31,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(final String username) {
-        return userRepository.findByUsername(username)
+        return coalescingUserLookup.findByUsername(username, DbLane.LOGIN)
                 .map(user -> createUser(username, user))
                 .orElseThrow(() -> new UsernameNotFoundException(username + " -> DB에서 찾을 수 없습니다."));
     }
@@ -40,19 +40,14 @@ public class CustomUserDetailsService implements UserDetailsService {
      * 사용자 정보를 기반으로 UserDetails 객체를 생성.
      *
      * @param username 조회된 사용자의 이름
-     * @param user     조회된 사용자의 정보(User 엔티티)
+     * @param user     조회된 사용자의 정보(UserRecord)
      * @return 생성된 UserDetails 객체
      */
-    private org.springframework.security.core.userdetails.User createUser(String username, User user) {
-        // 사용자 권한을 담을 리스트
-        List<GrantedAuthority> grantedAuthorities = new ArrayList<>();
-
-        // 사용자의 역할을 SimpleGrantedAuthority로 변환하여 리스트에 추가
-        // SimpleGrantedAuthorit = Spring Security에서 권한을 나타내는 클래스
-        // 데이터베이스에서 조회한 사용자의 역할 정보를 Spring Security가 이해할 수 있는 형태로 변환하여 권한 리스트에 추가하는 과정.
-        grantedAuthorities.add(new SimpleGrantedAuthority(user.getRole().toString()));
+    private org.springframework.security.core.userdetails.User createUser(String username, UserRecord user) {
+        // 사용자의 역할에 해당하는 공유 권한 목록 (요청마다 새 리스트를 만들지 않음)
+        List<GrantedAuthority> grantedAuthorities = RoleAuthorities.authorities(user.role());
 
         // UserDetails 객체 생성하여 반환
-        return new org.springframework.security.core.userdetails.User(username, user.getPw(), grantedAuthorities);
+        return new org.springframework.security.core.userdetails.User(username, user.pw(), grantedAuthorities);
     }
 }
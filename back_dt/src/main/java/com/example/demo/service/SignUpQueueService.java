@@ -0,0 +1,22 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.user.SignUpRequestDto;
+import com.example.demo.dto.user.SignUpStatusDto;
+
+public interface SignUpQueueService {
+
+    // 대기열 가입 모드(signup.mode=queued) 여부
+    boolean isEnabled();
+
+    // 검증된 가입 요청을 대기열에 저장
+    SignUpStatusDto enqueue(SignUpRequestDto dto);
+
+    // 가입 요청 처리 상태 조회
+    SignUpStatusDto getStatus(String requestId);
+
+    // 대기 중인 요청을 한 배치만큼 가져와 처리하고 완료 또는 실패로 끝난 건수를 반환 (보류된 요청은 제외)
+    int processBatch();
+
+    // 보관 기간이 지난 완료, 실패 요청 삭제
+    int purgeFinished();
+}
@@ -0,0 +1,106 @@
+package com.example.demo.service;
+
+import com.example.demo.lifecycle.InFlightTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 대기열 가입 요청을 처리하는 워커 풀. (signup.mode=queued)
+ * 워커 수만큼만 동시에 BCrypt 인코딩과 회원 저장을 수행하므로, 가입이 몰려도 처리 속도가 일정하게 유지됨.
+ * 각 워커는 대기열이 빌 때까지 배치를 연속으로 처리하고, 비어 있으면 poll-interval만큼 쉼.
+ * 배치는 InFlightTracker에 등록하여 종료 시 드레인이 처리 중인 배치가 끝나기를 기다리고, 드레인 중에는 새 배치를 시작하지 않음.
+ */
+@Component
+@ConditionalOnProperty(prefix = "signup", name = "mode", havingValue = "queued")
+public class SignUpQueueWorker {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private static final long PURGE_INTERVAL_MINUTES = 10;
+
+    private final SignUpQueueService signUpQueueService;
+    private final InFlightTracker inFlightTracker;
+    private final int workers;
+    private final long pollIntervalMillis;
+    private final ScheduledExecutorService executor;
+
+    public SignUpQueueWorker(SignUpQueueService signUpQueueService,
+                             InFlightTracker inFlightTracker,
+                             @Value("${signup.queue.workers:2}") int workers,
+                             @Value("${signup.queue.poll-interval:200ms}") Duration pollInterval) {
+        this.signUpQueueService = signUpQueueService;
+        this.inFlightTracker = inFlightTracker;
+        this.workers = workers;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newScheduledThreadPool(workers + 1, r -> {
+            Thread thread = new Thread(r, "signup-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 워밍업이 끝나 트래픽을 받기 시작할 때 워커를 시작
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (int i = 0; i < workers; i++) {
+            executor.scheduleWithFixedDelay(this::drain, 0, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        executor.scheduleWithFixedDelay(this::purge, PURGE_INTERVAL_MINUTES, PURGE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+        log.info("회원가입 대기열 워커 {}개를 시작합니다.", workers);
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted() && processBatch() > 0) {
+                // 대기열이 비거나 모든 요청이 보류될 때까지, 또는 드레인이 시작될 때까지 연속 처리
+            }
+        } catch (Exception e) {
+            // 예외로 스케줄이 중단되지 않도록 로그만 남기고 다음 주기에 재시도
+            log.warn("회원가입 대기열 처리 중 오류가 발생했습니다. {}", e.getMessage());
+        }
+    }
+
+    private int processBatch() {
+        if (!inFlightTracker.tryEnter()) {
+            return 0;
+        }
+        try {
+            return signUpQueueService.processBatch();
+        } finally {
+            inFlightTracker.exit();
+        }
+    }
+
+    private void purge() {
+        try {
+            int deleted = signUpQueueService.purgeFinished();
+            if (deleted > 0) {
+                log.info("처리가 끝난 회원가입 요청 {}건을 삭제했습니다.", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("회원가입 대기열 정리 중 오류가 발생했습니다. {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
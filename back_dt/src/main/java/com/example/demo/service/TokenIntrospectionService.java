@@ -0,0 +1,14 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.token.IntrospectionResponseDto;
+
+import java.util.List;
+
+public interface TokenIntrospectionService {
+
+    // 내부 서비스 인증 키 검증
+    void verifyInternalKey(String internalKey);
+
+    // 토큰 목록을 일괄 검증
+    IntrospectionResponseDto introspect(List<String> tokens);
+}
@@ -0,0 +1,11 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.admin.UsageDto;
+
+import java.time.LocalDate;
+
+public interface UsageService {
+
+    // 사용자의 기간별 경로 사용량 조회 (아직 반영하지 않은 메모리 증가분 포함)
+    UsageDto getUsage(String principal, LocalDate from, LocalDate to);
+}
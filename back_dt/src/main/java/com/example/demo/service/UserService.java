@@ -1,6 +1,6 @@
 package com.example.demo.service;
 
-import com.example.demo.domain.User;
+import com.example.demo.domain.UserRecord;
 import com.example.demo.dto.token.TokenDto;
 import com.example.demo.dto.user.LoginRequestDto;
 import com.example.demo.dto.user.SignUpRequestDto;
@@ -19,5 +19,5 @@ public interface UserService {
 
     TokenDto doLogin(LoginRequestDto requestDto);
 
-    User getMyInfo();
+    UserRecord getMyInfo();
 }
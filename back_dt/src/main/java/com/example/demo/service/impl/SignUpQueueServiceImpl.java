@@ -0,0 +1,189 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.domain.PendingSignUp;
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.user.SignUpRequestDto;
+import com.example.demo.dto.user.SignUpStatusDto;
+import com.example.demo.enums.SignUpStatus;
+import com.example.demo.repository.PendingSignUpRepository;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.resilience.DatabaseGuard;
+import com.example.demo.service.SignUpQueueService;
+import com.example.demo.service.UserService;
+import com.example.demo.util.AesGcmCipher;
+import com.example.demo.util.EncryptionKeys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대기열 회원 가입 서비스.
+ * 요청 스레드에서는 검증된 요청을 signup_queue 테이블에 저장만 하고,
+ * SignUpQueueWorker가 배치 단위로 요청을 선점하여 BCrypt 인코딩과 회원 저장을 UserService.signup으로 처리.
+ */
+@Service
+public class SignUpQueueServiceImpl implements SignUpQueueService {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final PendingSignUpRepository pendingSignUpRepository;
+    private final UserRecordRepository userRecordRepository;
+    private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+    private final AesGcmCipher cipher;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    public SignUpQueueServiceImpl(PendingSignUpRepository pendingSignUpRepository,
+                                  UserRecordRepository userRecordRepository,
+                                  UserService userService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${signup.mode:sync}") String mode,
+                                  @Value("${signup.queue.batch-size:20}") int batchSize,
+                                  @Value("${signup.queue.claim-timeout:5m}") Duration claimTimeout,
+                                  @Value("${signup.queue.retention:1d}") Duration retention,
+                                  @Value("${signup.queue.encryption-key:}") String encryptionKey) {
+        this.pendingSignUpRepository = pendingSignUpRepository;
+        this.userRecordRepository = userRecordRepository;
+        this.userService = userService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = "queued".equalsIgnoreCase(mode);
+        // 대기열을 쓸 때만 키가 필요하며, 없으면 기동 시 바로 실패
+        this.cipher = enabled
+                ? new AesGcmCipher(EncryptionKeys.requireAes256Key("signup.queue.encryption-key", encryptionKey))
+                : null;
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+        this.retention = retention;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public SignUpStatusDto enqueue(SignUpRequestDto dto) {
+        Instant now = Instant.now();
+        PendingSignUp pendingSignUp = PendingSignUp.builder()
+                .requestId(UUID.randomUUID().toString())
+                .username(dto.getId())
+                .encryptedPw(cipher.encrypt(dto.getPw()))
+                .email(dto.getEmail())
+                .nickname(dto.getNickname())
+                .phone(dto.getPhone())
+                .status(SignUpStatus.PENDING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        return SignUpStatusDto.from(pendingSignUpRepository.save(pendingSignUp));
+    }
+
+    @Override
+    public SignUpStatusDto getStatus(String requestId) {
+        return pendingSignUpRepository.findByRequestId(requestId)
+                .map(SignUpStatusDto::from)
+                .orElseThrow(() -> new CustomException(ErrorCode.SIGNUP_REQUEST_NOT_FOUND));
+    }
+
+    @Override
+    public int processBatch() {
+        List<PendingSignUp> batch = claim();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // 배치의 요청은 모두 같은 선점 토큰을 가짐 (release 시 지워지므로 처리 전에 보관)
+        String claimToken = batch.get(0).getClaimToken();
+        // 회원 저장은 요청마다 별도 트랜잭션(UserService.signup)으로 처리
+        for (PendingSignUp pendingSignUp : batch) {
+            process(pendingSignUp);
+        }
+        // 처리 결과는 배치 단위로 한 트랜잭션에서 저장하되, 그 사이 다시 선점된 요청은 건너뜀
+        return transactionTemplate.execute(status -> {
+            int finished = 0;
+            for (PendingSignUp pendingSignUp : batch) {
+                if (pendingSignUpRepository.saveIfClaimed(pendingSignUp, claimToken) == 0) {
+                    log.warn("회원가입 요청 {}이(가) 다른 워커에 다시 선점되어 결과를 기록하지 않습니다.",
+                            pendingSignUp.getRequestId());
+                } else if (pendingSignUp.getStatus() != SignUpStatus.PENDING) {
+                    finished++;
+                }
+            }
+            return finished;
+        });
+    }
+
+    @Override
+    public int purgeFinished() {
+        return transactionTemplate.execute(status ->
+                pendingSignUpRepository.deleteFinishedBefore(Instant.now().minus(retention)));
+    }
+
+    // 대기 중인 요청을 배치 크기만큼 선점
+    private List<PendingSignUp> claim() {
+        return transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            Instant staleBefore = now.minus(claimTimeout);
+            List<Long> ids = pendingSignUpRepository.findClaimableIds(staleBefore, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            String claimToken = UUID.randomUUID().toString();
+            if (pendingSignUpRepository.claim(ids, claimToken, now, staleBefore) == 0) {
+                // 다른 워커가 먼저 가져감
+                return List.of();
+            }
+            return pendingSignUpRepository.findByClaimToken(claimToken);
+        });
+    }
+
+    private void process(PendingSignUp pendingSignUp) {
+        try {
+            userService.signup(new SignUpRequestDto(pendingSignUp.getUsername(),
+                    cipher.decrypt(pendingSignUp.getEncryptedPw()), pendingSignUp.getEmail(),
+                    pendingSignUp.getNickname(), pendingSignUp.getPhone()));
+            pendingSignUp.complete();
+        } catch (CustomException e) {
+            ErrorCode errorCode = e.getErrorCode();
+            if (errorCode.getStatus() == 503) {
+                // DB 혼잡, 장애 등 일시적인 오류는 다음 배치에서 다시 처리
+                log.warn("회원가입 요청 {} 처리 보류 : {}", pendingSignUp.getRequestId(), errorCode.getCode());
+                pendingSignUp.release();
+            } else if (errorCode == ErrorCode.DUPLICATE_ID && isSameSignUp(pendingSignUp)) {
+                // 저장 후 상태 기록 전에 워커가 중단되어 다시 처리된 요청
+                pendingSignUp.complete();
+            } else {
+                pendingSignUp.fail(errorCode.getCode());
+            }
+        } catch (RuntimeException e) {
+            if (DatabaseGuard.isDatabaseFailure(e)) {
+                // 커넥션 획득 실패, 타임아웃 등 일시적인 DB 오류도 다음 배치에서 다시 처리
+                log.warn("회원가입 요청 {} 처리 보류 : {}", pendingSignUp.getRequestId(), e.getMessage());
+                pendingSignUp.release();
+                return;
+            }
+            log.error("회원가입 요청 {} 처리 실패", pendingSignUp.getRequestId(), e);
+            pendingSignUp.fail(ErrorCode.SIGNUP_FAILED.getCode());
+        }
+    }
+
+    private boolean isSameSignUp(PendingSignUp pendingSignUp) {
+        return userRecordRepository.findByUsername(pendingSignUp.getUsername())
+                .map(user -> user.email().equals(pendingSignUp.getEmail()))
+                .orElse(false);
+    }
+}
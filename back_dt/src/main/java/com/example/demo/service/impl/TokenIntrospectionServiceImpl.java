@@ -0,0 +1,154 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.token.IntrospectionResponseDto;
+import com.example.demo.dto.token.TokenIntrospectionDto;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.service.TokenIntrospectionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내부 서비스가 보낸 토큰 목록을 TokenProvider로 일괄 검증하는 서비스.
+ * 캐시에 없는 토큰만 CPU 코어 수만큼의 전용 ForkJoinPool에서 병렬로 검증하며,
+ * 결과는 설정된 TTL과 토큰 만료시간 중 짧은 시간 동안만 캐시.
+ */
+@Service
+public class TokenIntrospectionServiceImpl implements TokenIntrospectionService {
+
+    // 이 개수 미만이면 병렬 처리 비용이 더 크므로 호출 스레드에서 검증
+    private static final int PARALLEL_THRESHOLD = 8;
+
+    private final TokenProvider tokenProvider;
+    private final byte[] internalKey;
+    private final int maxBatchSize;
+    private final long cacheTtlMillis;
+    private final Cache<String, TokenIntrospectionDto> cache;
+    private final ForkJoinPool pool;
+
+    public TokenIntrospectionServiceImpl(TokenProvider tokenProvider,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${introspection.internal-key:}") String internalKey,
+                                         @Value("${introspection.max-batch-size:500}") int maxBatchSize,
+                                         @Value("${introspection.cache.ttl:30s}") Duration cacheTtl,
+                                         @Value("${introspection.cache.max-size:100000}") long cacheMaxSize) {
+        this.tokenProvider = tokenProvider;
+        this.internalKey = internalKey.getBytes(StandardCharsets.UTF_8);
+        this.maxBatchSize = maxBatchSize;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "token.introspection");
+    }
+
+    /**
+     * 요청 헤더의 내부 서비스 인증 키를 상수 시간 비교로 검증.
+     * 설정된 키가 없으면 엔드포인트를 사용할 수 없음.
+     */
+    @Override
+    public void verifyInternalKey(String internalKey) {
+        if (this.internalKey.length == 0 || internalKey == null
+                || !MessageDigest.isEqual(this.internalKey, internalKey.getBytes(StandardCharsets.UTF_8))) {
+            throw new CustomException(ErrorCode.INVALID_INTERNAL_KEY);
+        }
+    }
+
+    @Override
+    public IntrospectionResponseDto introspect(List<String> tokens) {
+        if (tokens.size() > maxBatchSize) {
+            throw new CustomException(ErrorCode.INTROSPECTION_BATCH_TOO_LARGE);
+        }
+
+        // 캐시에 있는 결과를 먼저 채우고, 중복을 제거한 나머지만 검증
+        Map<String, TokenIntrospectionDto> results = new HashMap<>(cache.getAllPresent(tokens));
+        Set<String> misses = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (!results.containsKey(token)) {
+                misses.add(token);
+            }
+        }
+        if (!misses.isEmpty()) {
+            Map<String, TokenIntrospectionDto> verified = verify(misses);
+            cache.putAll(verified);
+            results.putAll(verified);
+        }
+
+        long now = System.currentTimeMillis();
+        List<TokenIntrospectionDto> ordered = new ArrayList<>(tokens.size());
+        long maxAgeMillis = cacheTtlMillis;
+        for (String token : tokens) {
+            TokenIntrospectionDto result = results.get(token);
+            ordered.add(result);
+            maxAgeMillis = Math.min(maxAgeMillis, cacheableMillis(result, now));
+        }
+        return new IntrospectionResponseDto(ordered, TimeUnit.MILLISECONDS.toSeconds(maxAgeMillis));
+    }
+
+    // 적은 수는 호출 스레드에서, 많은 수는 전용 풀에서 병렬 검증
+    private Map<String, TokenIntrospectionDto> verify(Set<String> tokens) {
+        if (tokens.size() < PARALLEL_THRESHOLD) {
+            return tokens.stream().collect(Collectors.toMap(Function.identity(), tokenProvider::introspect));
+        }
+        return pool.submit(() -> tokens.parallelStream()
+                        .collect(Collectors.toConcurrentMap(Function.identity(), tokenProvider::introspect)))
+                .join();
+    }
+
+    // 검증 결과를 캐시해도 되는 시간. 유효한 토큰은 만료시간을 넘겨 캐시하지 않음
+    private long cacheableMillis(TokenIntrospectionDto result, long now) {
+        if (!result.isActive()) {
+            // 만료되었거나 서명이 잘못된 토큰은 다시 유효해지지 않음
+            return cacheTtlMillis;
+        }
+        return Math.max(0, Math.min(cacheTtlMillis, result.getExpiresAt() - now));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    // 항목별 캐시 만료시간을 토큰 만료시간에 맞추는 Expiry
+    private class TokenExpiry implements Expiry<String, TokenIntrospectionDto> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenIntrospectionDto value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(cacheableMillis(value, System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenIntrospectionDto value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenIntrospectionDto value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.dto.admin.RouteUsageDto;
+import com.example.demo.dto.admin.UsageDto;
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.metering.UsageDelta;
+import com.example.demo.metering.UsageMeter;
+import com.example.demo.repository.UsageRepository;
+import com.example.demo.service.UsageService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용량 조회 서비스 구현체.
+ * usage_counters 테이블의 합계에 이 노드에서 아직 반영하지 않은 증가분을 더해 반환.
+ * 다른 노드의 미반영 증가분은 다음 flush 이후에 보이며, 조회 도중 flush가 끝나면 한 주기 분량이 일시적으로 어긋날 수 있음.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "metering", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UsageServiceImpl implements UsageService {
+
+    // 한 번에 조회할 수 있는 최대 기간 (일)
+    private static final long MAX_RANGE_DAYS = 92;
+
+    private final UsageRepository usageRepository;
+    private final UsageMeter usageMeter;
+
+    @Override
+    public UsageDto getUsage(String principal, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.INVALID_PARAMETER);
+        }
+        Instant start = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        Map<String, Long> totals = usageRepository.sumByRoute(principal, start, end);
+        for (UsageDelta delta : usageMeter.pending(principal, start, end)) {
+            totals.merge(delta.route(), delta.calls(), Long::sum);
+        }
+        List<RouteUsageDto> routes = totals.entrySet().stream()
+                .map(entry -> new RouteUsageDto(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(RouteUsageDto::getCalls).reversed())
+                .toList();
+        long totalCalls = routes.stream().mapToLong(RouteUsageDto::getCalls).sum();
+
+        long todayCalls = usageMeter.getTodayCalls(principal);
+        long dailyQuota = usageMeter.getDailyQuota();
+        return new UsageDto(principal, from, to, totalCalls, routes,
+                todayCalls, dailyQuota, dailyQuota > 0 && todayCalls >= dailyQuota);
+    }
+}
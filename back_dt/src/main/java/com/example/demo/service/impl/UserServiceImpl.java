@@ -1,13 +1,18 @@
 package com.example.demo.service.impl;
 
-import com.example.demo.domain.User;
+import com.example.demo.domain.UserRecord;
+import com.example.demo.dto.exception.user.DuplicateIdException;
 import com.example.demo.dto.exception.user.UserNotFoundException;
 import com.example.demo.dto.token.TokenDto;
 import com.example.demo.dto.user.LoginRequestDto;
 import com.example.demo.dto.user.SignUpRequestDto;
 import com.example.demo.enums.Role;
 import com.example.demo.jwt.TokenProvider;
-import com.example.demo.repository.UserRepository;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.resilience.DatabaseGuard;
+import com.example.demo.resilience.DatabaseLane;
+import com.example.demo.resilience.DbLane;
+import com.example.demo.service.CoalescingUserLookup;
 import com.example.demo.service.UserService;
 import com.example.demo.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
@@ -20,47 +25,66 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserServiceImpl implements UserService {
 
-    private final UserRepository userRepository;
+    private final UserRecordRepository userRecordRepository;
+    private final CoalescingUserLookup coalescingUserLookup;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
     private final TokenProvider tokenProvider;
+    private final DatabaseGuard databaseGuard;
+    private final TransactionTemplate transactionTemplate;
 
     // 로그 처리
     private final Logger log = LoggerFactory.getLogger(getClass());
 
     /**
      * 회원 가입 처리 메서드
+     * 아이디, 이메일, 닉네임 중복을 먼저 조회하여 중복이면 BCrypt 인코딩 없이 바로 거절.
+     * (users 테이블에 유니크 제약조건이 있다고 가정하지 않음, 대기열 가입도 이 메서드로 중복을 판별)
      *
      * @param dto 회원 가입 요청 DTO
+     * @throws DuplicateIdException 이미 존재하는 아이디, 이메일, 닉네임일 경우 발생
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void signup(SignUpRequestDto dto) {
-        // User 객체 생성 및 값 설정
-        User user = User.builder()
-                .username(dto.getId())
-                .pw(passwordEncoder.encode(dto.getPw()))
-                .email(dto.getEmail())
-                .nickname(dto.getNickname())
-                .role(Role.USER)
-                .phone(dto.getPhone())
-                .build();
+        if (inLane(DbLane.LOOKUP, () -> userRecordRepository.existsByUsername(dto.getId()))) {
+            log.info("중복된 ID가 이미 존재합니다.");
+            throw new DuplicateIdException();
+        } else if (inLane(DbLane.LOOKUP, () -> userRecordRepository.existsByEmail(dto.getEmail()))) {
+            log.info("중복된 Email이 이미 존재합니다.");
+            throw new DuplicateIdException();
+        } else if (inLane(DbLane.LOOKUP, () -> userRecordRepository.existsByNickname(dto.getNickname()))) {
+            log.info("중복된 닉네임이 이미 존재합니다.");
+            throw new DuplicateIdException();
+        }
+        // UserRecord 생성 및 값 설정 (BCrypt는 DB 구획과 트랜잭션 밖에서 수행)
+        UserRecord user = new UserRecord(
+                null,
+                dto.getId(),
+                passwordEncoder.encode(dto.getPw()),
+                dto.getEmail(),
+                dto.getNickname(),
+                Role.USER,
+                dto.getPhone(),
+                null);
         try {
-            userRepository.save(user); // 회원 정보 저장
+            inLane(DbLane.SIGNUP, () -> userRecordRepository.save(user)); // 회원 정보 저장
             log.info("회원가입이 완료되었습니다."); // 성공 로그 출력
         } catch (DataIntegrityViolationException e) {
-            // 데이터 바인딩 예외 발생 시 처리
-            String errorMessage = "바인딩 오류: " + e.getMessage();
-            log.error(errorMessage); // 오류 로그 출력
-            e.printStackTrace(); // 예외 추적 정보 출력
+            // 조회 후 저장 전에 같은 값으로 먼저 가입한 경우 (제약조건이 있는 스키마에서만 발생)
+            log.info("회원 저장 중 중복이 감지되었습니다: {}", e.getMostSpecificCause().getMessage());
+            throw new DuplicateIdException();
         }
     }
 
@@ -71,10 +95,10 @@ public class UserServiceImpl implements UserService {
      * @return 아이디의 존재 여부 (true: 존재함, false: 존재하지 않음)
      */
     @Override
+    @DatabaseLane(DbLane.LOOKUP)
     @Transactional(readOnly = true)
     public boolean checkId(String username) {
-        Optional<User> entity = userRepository.findByUsername(username);
-        return entity.isPresent(); // 사용자 아이디 존재 여부 반환
+        return userRecordRepository.existsByUsername(username); // 사용자 아이디 존재 여부 반환
     }
 
     /**
@@ -84,10 +108,10 @@ public class UserServiceImpl implements UserService {
      * @return 닉네임의 존재 여부 (true: 존재함, false: 존재하지 않음)
      */
     @Override
+    @DatabaseLane(DbLane.LOOKUP)
     @Transactional(readOnly = true)
     public boolean checkNickname(String nickname) {
-        Optional<User> entity = userRepository.findByNickname(nickname);
-        return entity.isPresent(); // 사용자 닉네임 존재 여부 반환
+        return userRecordRepository.existsByNickname(nickname); // 사용자 닉네임 존재 여부 반환
     }
 
     /**
@@ -97,10 +121,10 @@ public class UserServiceImpl implements UserService {
      * @return 이메일의 존재 여부 (true: 존재함, false: 존재하지 않음)
      */
     @Override
+    @DatabaseLane(DbLane.LOOKUP)
     @Transactional(readOnly = true)
     public boolean checkEmail(String email) {
-        Optional<User> entity = userRepository.findByEmail(email);
-        return entity.isPresent(); // 사용자 이메일 존재 여부 반환
+        return userRecordRepository.existsByEmail(email); // 사용자 이메일 존재 여부 반환
     }
 
     /**
@@ -110,6 +134,7 @@ public class UserServiceImpl implements UserService {
      * @return 생성된 JWT 토큰 정보
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenDto doLogin(LoginRequestDto loginDto) {
         // 아이디와 비밀번호를 기반으로 AuthenticationToken 생성
         UsernamePasswordAuthenticationToken authenticationToken =
@@ -117,6 +142,7 @@ public class UserServiceImpl implements UserService {
         log.info("authenticationToken : " + authenticationToken);
 
         // CustomUserDetailsService를 사용하여 Authentication 인증 처리
+        // (사용자 조회만 LOGIN 구획에서 실행하고 BCrypt 비교는 구획 밖에서 수행)
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
         SecurityContextHolder.getContext().setAuthentication(authentication); // SecurityContext에 인증 정보 설정
         log.info("authentication : " + authentication);
@@ -125,12 +151,11 @@ public class UserServiceImpl implements UserService {
         TokenDto tokenDto = tokenProvider.generateTokenDto(authentication);
         log.info("tokenDto : " + tokenDto);
 
-        // RefreshToken 저장
-        Optional<User> entity = userRepository.findByUsername(authentication.getName());
-        if (entity.isPresent()) {
-            entity.get().saveToken(tokenDto.getRefreshToken()); // 사용자 엔티티에 RefreshToken 저장
-            userRepository.save(entity.get()); // 저장된 엔티티 정보 업데이트
-        }
+        // RefreshToken 저장 (엔티티 조회 없이 단일 UPDATE)
+        inLane(DbLane.LOGIN, () -> {
+            userRecordRepository.updateToken(authentication.getName(), tokenDto.getRefreshToken());
+            return null;
+        });
 
         return tokenDto; // 생성된 JWT 토큰 반환
     }
@@ -143,10 +168,19 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     @Transactional(readOnly = true)
-    public User getMyInfo() {
-        // SecurityUtil을 사용하여 현재 인증된 사용자의 이름을 가져온 후 UserRepository를 통해 사용자 정보 조회
+    public UserRecord getMyInfo() {
+        // SecurityUtil을 사용하여 현재 인증된 사용자의 이름을 가져온 후 동시 조회를 합쳐서 사용자 정보 조회
+        // (LOOKUP 구획은 실제로 쿼리를 실행하는 요청만 사용)
         return SecurityUtil.getCurrentUsername()
-                .flatMap(userRepository::findByUsername)
+                .flatMap(username -> coalescingUserLookup.findByUsername(username, DbLane.LOOKUP))
                 .orElseThrow(UserNotFoundException::new); // 사용자를 찾을 수 없으면 예외 발생
     }
+
+    /**
+     * 지정한 DB 구획의 bulkhead와 서킷 브레이커 안에서 트랜잭션으로 실행.
+     * 구획 한도와 느린 호출 판정이 BCrypt 같은 CPU 작업이 아닌 DB 접근에만 적용되도록 저장소 호출만 감쌈.
+     */
+    private <T> T inLane(DbLane lane, Supplier<T> action) {
+        return databaseGuard.call(lane, () -> transactionTemplate.execute(status -> action.get()));
+    }
 }
@@ -0,0 +1,101 @@
+package com.example.demo.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * datasource-proxy가 SQL 실행마다 호출하는 리스너.
+ * 실행 시간을 SQL 종류별 Micrometer 타이머에 기록하고, 현재 요청의 QueryStats에 더하며,
+ * 기준 시간을 넘은 SQL은 바인딩 값 대신 파라미터 타입 목록과 함께 느린 쿼리 로그로 남김.
+ */
+public class QueryProfilingListener implements QueryExecutionListener {
+
+    // 느린 쿼리 로그 (logging.level.com.example.demo.sql.slow 로 별도 조정 가능)
+    private final Logger slowQueryLog = LoggerFactory.getLogger("com.example.demo.sql.slow");
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdMillis;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public QueryProfilingListener(MeterRegistry meterRegistry, Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdMillis = slowThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // 실행 후에만 기록
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        String query = queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        boolean slow = elapsed >= slowThresholdMillis;
+
+        QueryStats.record(query, elapsed, slow);
+        timer(statementType(query), execInfo.isSuccess()).record(elapsed, TimeUnit.MILLISECONDS);
+
+        if (slow) {
+            slowQueryLog.warn("느린 쿼리 {}ms{} [{}] params={}", elapsed,
+                    execInfo.isBatch() ? " (batch " + execInfo.getBatchSize() + ")" : "",
+                    query, parameterShapes(queryInfoList));
+        }
+    }
+
+    private Timer timer(String type, boolean success) {
+        return timers.computeIfAbsent(type + success, key -> Timer.builder("db.query")
+                .description("SQL 실행 시간")
+                .tag("type", type)
+                .tag("success", String.valueOf(success))
+                .register(meterRegistry));
+    }
+
+    // SQL의 첫 키워드 (select, insert, update, delete, 그 밖은 other)
+    static String statementType(String query) {
+        String trimmed = query.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+
+    // 바인딩 값은 개인정보일 수 있으므로 파라미터를 설정한 순서대로 타입 이름만 남김 (배치는 첫 행만)
+    static String parameterShapes(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream().limit(1))
+                .map(parameters -> parameters.stream()
+                        .map(QueryProfilingListener::shape)
+                        .collect(Collectors.joining(", ", "[", "]")))
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String shape(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "null";
+        }
+        Object[] args = operation.getArgs();
+        return args.length < 2 || args[1] == null ? "null" : args[1].getClass().getSimpleName();
+    }
+}
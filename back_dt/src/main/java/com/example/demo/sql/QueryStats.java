@@ -0,0 +1,82 @@
+package com.example.demo.sql;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 수와 DB 시간을 모으는 측정 구간.
+ * QueryStatsFilter가 요청마다 구간을 열고, 테스트의 QueryBudget도 같은 구간을 사용.
+ * 구간은 중첩될 수 있으며 안쪽 구간에서 기록한 값은 바깥 구간에도 더해짐.
+ */
+public final class QueryStats implements AutoCloseable {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    // 구간마다 보관하는 SQL 문 최대 개수 (예산 초과 시 원인 확인용)
+    private static final int MAX_RECORDED_QUERIES = 50;
+
+    private final QueryStats parent;
+    private final List<String> queries = new ArrayList<>();
+    private int statements;
+    private int slowStatements;
+    private long elapsedMillis;
+
+    private QueryStats(QueryStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * 현재 스레드에 새 측정 구간을 시작.
+     * try-with-resources로 사용하여 구간을 반드시 닫을 것.
+     */
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    // 현재 스레드에서 열려 있는 측정 구간 (없으면 null)
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    // 실행된 SQL 문을 현재 구간과 바깥 구간 모두에 기록
+    static void record(String query, long elapsedMillis, boolean slow) {
+        for (QueryStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.statements++;
+            stats.elapsedMillis += elapsedMillis;
+            if (slow) {
+                stats.slowStatements++;
+            }
+            if (stats.queries.size() < MAX_RECORDED_QUERIES) {
+                stats.queries.add(query);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSlowStatements() {
+        return slowStatements;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public List<String> getQueries() {
+        return Collections.unmodifiableList(queries);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 QueryStats 구간을 열어 SQL 문 수와 DB 시간을 집계하는 필터.
+ * 결과는 URI 패턴별 메트릭으로 기록하고, 요청당 SQL 문 수가 예산을 넘으면 경고 로그를 남김.
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final MeterRegistry meterRegistry;
+    private final int requestBudget;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry, int requestBudget) {
+        this.meterRegistry = meterRegistry;
+        this.requestBudget = requestBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws IOException, ServletException {
+        try (QueryStats stats = QueryStats.begin()) {
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                report(request, stats);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        // 경로 변수 값으로 메트릭이 늘어나지 않도록 매칭된 URI 패턴을 사용
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder("db.request.statements")
+                .description("요청당 실행한 SQL 문 수")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("db.request.time")
+                .description("요청당 SQL 실행 시간 합계")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (stats.getStatements() > requestBudget) {
+            log.warn("요청 쿼리 예산 초과 {} {} : {}건, {}ms (예산 {}건) {}", request.getMethod(), uri,
+                    stats.getStatements(), stats.getElapsedMillis(), requestBudget, stats.getQueries());
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} : SQL {}건, {}ms, 느린 쿼리 {}건", request.getMethod(), uri,
+                    stats.getStatements(), stats.getElapsedMillis(), stats.getSlowStatements());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.sql;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 빈을 datasource-proxy로 감싸 모든 SQL 실행이 QueryProfilingListener를 거치도록 하는 후처리기.
+ * 리스너는 MeterRegistry에 의존하므로 DataSource가 만들어지는 시점에 지연 조회.
+ */
+public class SqlProfilingBeanPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryProfilingListener> listener;
+
+    public SqlProfilingBeanPostProcessor(ObjectProvider<QueryProfilingListener> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+            return proxy(beanName, dataSource, listener.getObject());
+        }
+        return bean;
+    }
+
+    /**
+     * 빈이 아닌 DataSource(샤드 풀 등)도 같은 리스너로 감쌀 때 사용.
+     */
+    public static DataSource proxy(String name, DataSource dataSource, QueryProfilingListener listener) {
+        return ProxyDataSourceBuilder.create(name, dataSource)
+                .listener(listener)
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.tokenserver;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 바이너리 토큰 검증 서버 설정. (token-server.*)
+ *
+ * @param enabled        서버 사용 여부
+ * @param socketPath     Unix 도메인 소켓 경로, 비어 있으면 루프백 TCP 사용
+ * @param port           루프백 TCP 포트 (127.0.0.1에만 바인딩)
+ * @param workers        검증 스레드 수, 0이면 CPU 코어 수
+ * @param maxFrameLength 요청 프레임 최대 크기 (초과하면 연결 종료)
+ * @param maxInFlight    연결별로 응답을 다 보내지 않은 요청 수 한도 (도달하면 그 연결에서 읽기를 멈춤)
+ * @param queueCapacity  검증 작업 대기열 크기 (가득 차면 BUSY로 응답)
+ */
+@ConfigurationProperties(prefix = "token-server")
+public record TokenServerProperties(
+        @DefaultValue("false") boolean enabled,
+        String socketPath,
+        @DefaultValue("9090") int port,
+        @DefaultValue("0") int workers,
+        @DefaultValue("8192") int maxFrameLength,
+        @DefaultValue("256") int maxInFlight,
+        @DefaultValue("4096") int queueCapacity
+) {
+}
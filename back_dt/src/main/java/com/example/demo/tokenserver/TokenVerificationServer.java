@@ -0,0 +1,365 @@
+package com.example.demo.tokenserver;
+
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.jwt.VerifiedToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 같은 호스트의 사이드카가 HTTP와 JSON 없이 JWT를 검증할 수 있는 NIO 서버. (token-server.enabled=true)
+ * Unix 도메인 소켓 또는 루프백 TCP로 TokenWireProtocol 프레임을 주고받음.
+ * 셀렉터 스레드 하나가 연결 수락과 읽기, 쓰기를 담당하고 검증은 작업 스레드에서 수행하므로
+ * 한 연결에서 파이프라이닝된 요청들이 동시에 처리되고, 끝난 순서대로 requestId와 함께 응답함.
+ * 연결별로 응답을 다 보내지 않은 요청이 maxInFlight개에 이르면 그 연결에서 읽기를 멈추고(OP_READ 해제),
+ * 검증 대기열이 가득 차면 요청을 처리하지 않고 BUSY로 응답하여 메모리와 대기 시간이 무한히 늘지 않도록 함.
+ */
+public class TokenVerificationServer implements SmartLifecycle {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final TokenProvider tokenProvider;
+    private final SocketAddress address;
+    private final int workerCount;
+    private final int maxFrameLength;
+    private final int maxInFlight;
+    private final int queueCapacity;
+
+    // 쓰기 대기 응답이 생긴 연결 (작업 스레드 -> 셀렉터 스레드)
+    private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private ExecutorService workers;
+    private Thread selectorThread;
+
+    public TokenVerificationServer(TokenProvider tokenProvider, SocketAddress address, int workers, int maxFrameLength,
+                                   int maxInFlight, int queueCapacity) {
+        this.tokenProvider = tokenProvider;
+        this.address = address;
+        this.workerCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.maxFrameLength = maxFrameLength;
+        this.maxInFlight = maxInFlight;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            if (address instanceof UnixDomainSocketAddress unix) {
+                // 이전 실행에서 남은 소켓 파일 제거
+                Files.deleteIfExists(unix.getPath());
+                serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            } else {
+                serverChannel = ServerSocketChannel.open();
+            }
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            selector = Selector.open();
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            throw new IllegalStateException("토큰 검증 서버를 시작할 수 없습니다: " + address, e);
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        // 대기열이 가득 차면 execute가 RejectedExecutionException을 던지고, dispatch에서 BUSY로 응답
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread thread = new Thread(r, "token-server-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        selectorThread = new Thread(this::selectLoop, "token-server-selector");
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+        log.info("토큰 검증 서버 시작: {}", getLocalAddress());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        selector.wakeup();
+        workers.shutdown();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        workers.shutdownNow();
+        if (address instanceof UnixDomainSocketAddress unix) {
+            try {
+                Files.deleteIfExists(unix.getPath());
+            } catch (IOException ignored) {
+                // 소켓 파일은 다음 시작 시에도 정리됨
+            }
+        }
+        log.info("토큰 검증 서버 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 드레인(DEFAULT_PHASE) 이후, 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024) 이전에 멈춤
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 512;
+    }
+
+    /**
+     * 실제 바인딩된 주소. (TCP 포트를 0으로 지정한 경우 할당된 포트 확인용)
+     */
+    public SocketAddress getLocalAddress() {
+        try {
+            return serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            return address;
+        }
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                selector.select();
+                flushPendingWrites();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (!key.isValid()) {
+                            continue;
+                        }
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isReadable()) {
+                                connection.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.flush();
+                            }
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        log.debug("토큰 검증 연결 오류: {}", e.getMessage());
+                        close(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("토큰 검증 서버 셀렉터 오류", e);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                close(key);
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // 종료 중
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    private void flushPendingWrites() {
+        Connection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            if (!connection.key.isValid()) {
+                continue;
+            }
+            try {
+                connection.flush();
+            } catch (IOException e) {
+                close(connection.key);
+            }
+        }
+    }
+
+    private static void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    // 검증 중 예외(Base64가 아닌 토큰 등)가 나도 응답을 보내야 연결의 inFlight가 줄어듦
+    private ByteBuffer handleOrReject(int requestId, byte opcode, byte[] token) {
+        try {
+            return handle(requestId, opcode, token);
+        } catch (RuntimeException e) {
+            log.debug("토큰 검증 요청을 처리할 수 없습니다. ({})", e.toString());
+            return TokenWireProtocol.encodeStatus(requestId, TokenWireProtocol.STATUS_BAD_REQUEST);
+        }
+    }
+
+    private ByteBuffer handle(int requestId, byte opcode, byte[] token) {
+        if (opcode != TokenWireProtocol.OP_VERIFY || token.length == 0) {
+            return TokenWireProtocol.encodeStatus(requestId, TokenWireProtocol.STATUS_BAD_REQUEST);
+        }
+        VerifiedToken verified = tokenProvider.verify(new String(token, StandardCharsets.UTF_8));
+        return TokenWireProtocol.encodeResponse(requestId, verified);
+    }
+
+    /**
+     * 연결별 읽기 버퍼와 쓰기 대기열.
+     * inFlight와 관심 이벤트는 셀렉터 스레드에서만 바꾸고, 작업 스레드는 out에 응답을 넣고 쓰기를 예약만 함.
+     */
+    private class Connection {
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        // 최대 크기의 프레임 하나가 항상 들어갈 수 있는 크기
+        private final ByteBuffer in;
+        // 응답은 처리 중인 요청 수만큼만 쌓임 (maxInFlight 이하)
+        private final Queue<ByteBuffer> out = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean writeScheduled = new AtomicBoolean();
+        // 작업 스레드로 넘긴 뒤 응답을 아직 다 쓰지 않은 요청 수
+        private int inFlight;
+        // 소켓 버퍼가 가득 차 OP_WRITE를 기다리는 중
+        private boolean writeBlocked;
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+            this.in = ByteBuffer.allocate(TokenWireProtocol.LENGTH_BYTES + maxFrameLength);
+        }
+
+        // 셀렉터 스레드에서 호출
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                close(key);
+                return;
+            }
+            processFrames();
+        }
+
+        // 읽은 만큼 완성된 프레임을 처리 중 요청 한도까지 작업 스레드로 넘기고, 나머지는 버퍼에 남겨 둠
+        private void processFrames() throws IOException {
+            in.flip();
+            while (inFlight < maxInFlight && in.remaining() >= TokenWireProtocol.LENGTH_BYTES) {
+                int length = in.getInt(in.position());
+                if (length < TokenWireProtocol.REQUEST_HEADER_BYTES || length > maxFrameLength) {
+                    throw new IOException("잘못된 프레임 길이: " + length);
+                }
+                if (in.remaining() < TokenWireProtocol.LENGTH_BYTES + length) {
+                    break;
+                }
+                in.getInt();
+                int requestId = in.getInt();
+                byte opcode = in.get();
+                byte[] token = new byte[length - TokenWireProtocol.REQUEST_HEADER_BYTES];
+                in.get(token);
+                dispatch(requestId, opcode, token);
+            }
+            in.compact();
+            updateInterestOps();
+        }
+
+        private void dispatch(int requestId, byte opcode, byte[] token) {
+            inFlight++;
+            try {
+                workers.execute(() -> enqueue(handleOrReject(requestId, opcode, token)));
+            } catch (RejectedExecutionException e) {
+                if (!running) {
+                    // 종료 중에는 연결만 닫음
+                    close(key);
+                    return;
+                }
+                // 검증 대기열이 가득 차면 처리하지 않고 즉시 BUSY로 응답
+                enqueue(TokenWireProtocol.encodeStatus(requestId, TokenWireProtocol.STATUS_BUSY));
+            }
+        }
+
+        // 작업 스레드(또는 BUSY 응답 시 셀렉터 스레드)에서 호출. 셀렉터 스레드가 쓰도록 예약
+        void enqueue(ByteBuffer response) {
+            out.add(response);
+            if (writeScheduled.compareAndSet(false, true)) {
+                pendingWrites.add(this);
+                selector.wakeup();
+            }
+        }
+
+        // 셀렉터 스레드에서 호출. 소켓 버퍼가 가득 차면 OP_WRITE로 이어서 씀
+        void flush() throws IOException {
+            boolean paused = inFlight >= maxInFlight;
+            ByteBuffer buffer;
+            while ((buffer = out.peek()) != null) {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    break;
+                }
+                out.poll();
+                inFlight--;
+            }
+            writeBlocked = buffer != null;
+            if (!writeBlocked) {
+                writeScheduled.set(false);
+                // 예약 해제 직전에 추가된 응답이 있으면 다시 예약
+                if (!out.isEmpty() && writeScheduled.compareAndSet(false, true)) {
+                    pendingWrites.add(this);
+                }
+            }
+            if (paused && inFlight < maxInFlight) {
+                // 한도 때문에 버퍼에 남겨 둔 프레임부터 처리하고 읽기를 재개
+                processFrames();
+            } else {
+                updateInterestOps();
+            }
+        }
+
+        // 처리 중 요청이 한도에 이르면 읽기를 멈추고, 응답을 다 쓰지 못했으면 쓰기 가능 이벤트를 기다림
+        private void updateInterestOps() {
+            if (!key.isValid()) {
+                return;
+            }
+            int ops = (inFlight < maxInFlight ? SelectionKey.OP_READ : 0) | (writeBlocked ? SelectionKey.OP_WRITE : 0);
+            if (key.interestOps() != ops) {
+                key.interestOps(ops);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.tokenserver;
+
+import com.example.demo.jwt.VerifiedToken;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 토큰 검증 서버의 바이너리 프로토콜. (모든 정수는 big-endian)
+ * <pre>
+ * 프레임   : int32 length (이후 바이트 수) | int32 requestId | payload
+ * 요청     : uint8 opcode (0x01 VERIFY)   | 토큰 UTF-8 바이트 (length - 5)
+ * 응답     : uint8 status | int64 expiresAt | int32 roleMask | uint16 subjectLength | subject UTF-8 바이트
+ * </pre>
+ * 응답의 requestId는 요청과 같으며, 서버는 요청 순서와 관계없이 처리가 끝난 순서대로 응답하므로
+ * 클라이언트는 한 연결에서 여러 요청을 응답을 기다리지 않고 연속으로 보낼 수 있음.
+ * ACTIVE가 아닌 응답은 expiresAt, roleMask, subjectLength가 모두 0.
+ * 서버의 검증 대기열이 가득 차면 요청을 처리하지 않고 BUSY로 응답하므로 클라이언트는 잠시 후 다시 보내면 됨.
+ */
+public final class TokenWireProtocol {
+
+    public static final byte OP_VERIFY = 0x01;
+
+    public static final byte STATUS_ACTIVE = 0;
+    public static final byte STATUS_INACTIVE = 1;
+    public static final byte STATUS_BAD_REQUEST = 2;
+    public static final byte STATUS_BUSY = 3;
+
+    // length 필드
+    public static final int LENGTH_BYTES = 4;
+    // requestId + opcode
+    public static final int REQUEST_HEADER_BYTES = 4 + 1;
+    // requestId + status + expiresAt + roleMask + subjectLength
+    public static final int RESPONSE_HEADER_BYTES = 4 + 1 + 8 + 4 + 2;
+
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 8192;
+
+    private TokenWireProtocol() {
+    }
+
+    /**
+     * 검증 요청 프레임 생성.
+     */
+    public static ByteBuffer encodeRequest(int requestId, String token) {
+        byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_BYTES + REQUEST_HEADER_BYTES + bytes.length);
+        frame.putInt(REQUEST_HEADER_BYTES + bytes.length)
+                .putInt(requestId)
+                .put(OP_VERIFY)
+                .put(bytes)
+                .flip();
+        return frame;
+    }
+
+    /**
+     * 검증 결과 응답 프레임 생성.
+     *
+     * @param verified 유효한 토큰이면 검증 결과, 아니면 null
+     */
+    public static ByteBuffer encodeResponse(int requestId, VerifiedToken verified) {
+        if (verified == null) {
+            return encodeStatus(requestId, STATUS_INACTIVE);
+        }
+        byte[] subject = verified.subject() == null ? new byte[0] : verified.subject().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_BYTES + RESPONSE_HEADER_BYTES + subject.length);
+        frame.putInt(RESPONSE_HEADER_BYTES + subject.length)
+                .putInt(requestId)
+                .put(STATUS_ACTIVE)
+                .putLong(verified.expiresAt())
+                .putInt(verified.roleMask())
+                .putShort((short) subject.length)
+                .put(subject)
+                .flip();
+        return frame;
+    }
+
+    /**
+     * 본문 없는 상태 응답 프레임 생성. (INACTIVE, BAD_REQUEST, BUSY)
+     */
+    public static ByteBuffer encodeStatus(int requestId, byte status) {
+        ByteBuffer frame = ByteBuffer.allocate(LENGTH_BYTES + RESPONSE_HEADER_BYTES);
+        frame.putInt(RESPONSE_HEADER_BYTES)
+                .putInt(requestId)
+                .put(status)
+                .putLong(0)
+                .putInt(0)
+                .putShort((short) 0)
+                .flip();
+        return frame;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.tokenserver.client;
+
+import com.example.demo.enums.Role;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 검증 서버의 응답.
+ *
+ * @param active    서명과 만료 검증을 통과했는지 여부
+ * @param subject   토큰 발급 대상 사용자 아이디 (active가 아니면 null)
+ * @param roleMask  역할 비트마스크 (Role.bit()의 조합)
+ * @param expiresAt 만료시간 (epoch millis)
+ */
+public record TokenVerification(boolean active, String subject, int roleMask, long expiresAt) {
+
+    static final TokenVerification INACTIVE = new TokenVerification(false, null, 0, 0L);
+
+    /**
+     * 역할 비트마스크를 역할 이름 목록으로 변환. (예: ["USER", "ADMIN"])
+     */
+    public List<String> authorities() {
+        List<String> names = new ArrayList<>(Role.values().length);
+        for (Role role : Role.values()) {
+            if ((roleMask & role.bit()) != 0) {
+                names.add(role.name());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.demo.tokenserver.client;
+
+import com.example.demo.tokenserver.TokenWireProtocol;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토큰 검증 서버 클라이언트.
+ * 하나의 연결을 여러 스레드가 공유하며, 요청마다 requestId를 붙여 응답을 기다리지 않고 연속으로 보내고
+ * 전용 읽기 스레드가 도착한 응답을 requestId로 찾아 완료시킴.
+ * <pre>
+ * try (TokenVerificationClient client = TokenVerificationClient.connect(UnixDomainSocketAddress.of("/run/demo/token.sock"))) {
+ *     TokenVerification result = client.verify(token, Duration.ofMillis(100));
+ * }
+ * </pre>
+ */
+public class TokenVerificationClient implements AutoCloseable {
+
+    private final SocketChannel channel;
+    private final Map<Integer, CompletableFuture<TokenVerification>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger requestIds = new AtomicInteger();
+    private final Thread reader;
+    private volatile boolean closed;
+
+    private TokenVerificationClient(SocketChannel channel) {
+        this.channel = channel;
+        this.reader = new Thread(this::readLoop, "token-client-reader");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    /**
+     * 서버에 연결. UnixDomainSocketAddress 또는 InetSocketAddress를 사용.
+     */
+    public static TokenVerificationClient connect(SocketAddress address) throws IOException {
+        SocketChannel channel = address instanceof UnixDomainSocketAddress
+                ? SocketChannel.open(StandardProtocolFamily.UNIX)
+                : SocketChannel.open();
+        channel.connect(address);
+        if (!(address instanceof UnixDomainSocketAddress)) {
+            channel.socket().setTcpNoDelay(true);
+        }
+        return new TokenVerificationClient(channel);
+    }
+
+    /**
+     * 토큰 검증 요청을 보내고 응답을 기다리지 않고 반환.
+     * 연결이 끊기면 IOException으로 완료됨.
+     */
+    public CompletableFuture<TokenVerification> verifyAsync(String token) {
+        CompletableFuture<TokenVerification> future = new CompletableFuture<>();
+        if (closed) {
+            future.completeExceptionally(new IOException("연결이 닫혔습니다."));
+            return future;
+        }
+        int requestId = requestIds.incrementAndGet();
+        pending.put(requestId, future);
+        // 제한 시간 초과로 취소된 요청이 남지 않도록 정리
+        future.whenComplete((result, e) -> pending.remove(requestId, future));
+        ByteBuffer frame = TokenWireProtocol.encodeRequest(requestId, token);
+        try {
+            // 프레임이 섞이지 않도록 쓰기만 직렬화
+            synchronized (channel) {
+                while (frame.hasRemaining()) {
+                    channel.write(frame);
+                }
+            }
+        } catch (IOException e) {
+            pending.remove(requestId);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 토큰을 검증하고 제한 시간까지 응답을 기다림.
+     */
+    public TokenVerification verify(String token, Duration timeout) throws IOException, TimeoutException {
+        CompletableFuture<TokenVerification> future = verifyAsync(token);
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("응답 대기 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            future.cancel(false);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+        try {
+            reader.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void readLoop() {
+        ByteBuffer header = ByteBuffer.allocate(TokenWireProtocol.LENGTH_BYTES);
+        IOException failure = null;
+        try {
+            while (true) {
+                header.clear();
+                readFully(header);
+                int length = header.getInt(0);
+                if (length < TokenWireProtocol.RESPONSE_HEADER_BYTES) {
+                    throw new IOException("잘못된 응답 길이: " + length);
+                }
+                ByteBuffer body = ByteBuffer.allocate(length);
+                readFully(body);
+                body.flip();
+                complete(body);
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            closed = true;
+            IOException cause = failure != null ? failure : new IOException("연결이 닫혔습니다.");
+            pending.values().forEach(future -> future.completeExceptionally(cause));
+            pending.clear();
+        }
+    }
+
+    private void complete(ByteBuffer body) {
+        int requestId = body.getInt();
+        byte status = body.get();
+        long expiresAt = body.getLong();
+        int roleMask = body.getInt();
+        int subjectLength = Short.toUnsignedInt(body.getShort());
+        String subject = new String(body.array(), body.position(), subjectLength, StandardCharsets.UTF_8);
+
+        CompletableFuture<TokenVerification> future = pending.remove(requestId);
+        if (future == null) {
+            // 제한 시간이 지나 취소된 요청
+            return;
+        }
+        switch (status) {
+            case TokenWireProtocol.STATUS_ACTIVE ->
+                    future.complete(new TokenVerification(true, subject, roleMask, expiresAt));
+            case TokenWireProtocol.STATUS_INACTIVE -> future.complete(TokenVerification.INACTIVE);
+            case TokenWireProtocol.STATUS_BUSY ->
+                    future.completeExceptionally(new RejectedExecutionException("서버가 바빠 요청을 처리하지 못했습니다. 잠시 후 다시 시도하세요."));
+            default -> future.completeExceptionally(new IllegalArgumentException("서버가 요청을 거부했습니다. (status " + status + ")"));
+        }
+    }
+
+    private void readFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("서버가 연결을 닫았습니다.");
+            }
+        }
+    }
+}
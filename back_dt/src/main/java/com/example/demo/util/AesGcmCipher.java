@@ -0,0 +1,61 @@
+package com.example.demo.util;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * AES-256-GCM 문자열 암호화 도구.
+ * 결과는 Base64(IV 12바이트 + 암호문 + 인증 태그) 형식이며, 변조된 값은 복호화 시 예외가 발생.
+ */
+public class AesGcmCipher {
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKeySpec key;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * @param key 32바이트 AES 키
+     */
+    public AesGcmCipher(byte[] key) {
+        if (key.length != 32) {
+            throw new IllegalArgumentException("AES-256 키는 32바이트여야 합니다.");
+        }
+        this.key = new SecretKeySpec(key, "AES");
+    }
+
+    public String encrypt(String plainText) {
+        try {
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(IV_LENGTH + encrypted.length)
+                    .put(iv)
+                    .put(encrypted)
+                    .array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("암호화에 실패했습니다.", e);
+        }
+    }
+
+    public String decrypt(String cipherText) {
+        try {
+            byte[] decoded = Base64.getDecoder().decode(cipherText);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, decoded, 0, IV_LENGTH));
+            return new String(cipher.doFinal(decoded, IV_LENGTH, decoded.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("복호화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.demo.util;
+
+import java.util.Base64;
+
+/**
+ * 설정으로 받은 AES-256 키를 읽는 도구. (AesGcmCipher용)
+ * 다른 용도의 비밀값(jwt.secret 등)에서 키를 파생하지 않고, 용도마다 따로 지정한 키만 허용하여
+ * 한 비밀값이 노출되거나 교체될 때 다른 저장 데이터까지 영향을 받지 않도록 함.
+ */
+public final class EncryptionKeys {
+
+    private static final int AES_256_KEY_LENGTH = 32;
+
+    private EncryptionKeys() {
+    }
+
+    /**
+     * Base64로 인코딩된 32바이트 키를 디코딩.
+     *
+     * @param property 오류 메시지에 표시할 설정 이름 (예: idempotency.encryption-key)
+     * @param value    설정값
+     * @throws IllegalStateException 키가 없거나 Base64 32바이트가 아닌 경우 (기동 시 바로 실패)
+     */
+    public static byte[] requireAes256Key(String property, String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(property + " 설정이 필요합니다. (Base64 인코딩한 32바이트 키)");
+        }
+        byte[] key;
+        try {
+            key = Base64.getDecoder().decode(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(property + " 값이 Base64 형식이 아닙니다.", e);
+        }
+        if (key.length != AES_256_KEY_LENGTH) {
+            throw new IllegalStateException(property + " 키는 32바이트여야 합니다. (현재 " + key.length + "바이트)");
+        }
+        return key;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.util;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 호출을 하나로 합치는 유틸.
+ * 먼저 들어온 호출(leader)만 실제로 실행하고, 실행 중에 들어온 호출(follower)은 같은 결과를 공유.
+ * 결과는 실행이 끝나는 즉시 버리므로 캐시와 달리 오래된 값을 반환하지 않음.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutNanos;
+
+    // 실제 실행 횟수
+    private final LongAdder executions = new LongAdder();
+    // 다른 호출의 결과를 공유하여 절약한 실행 횟수
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * @param timeout follower가 leader의 결과를 기다리는 최대 시간
+     */
+    public SingleFlight(Duration timeout) {
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * 같은 키로 실행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 실행.
+     * leader에서 발생한 예외는 모든 follower에게 그대로 전달.
+     *
+     * @param key    합칠 기준 키
+     * @param loader 실제 실행할 작업
+     * @return 작업 결과
+     * @throws CustomException follower의 대기 시간이 초과된 경우 (ErrorCode.LOOKUP_TIMEOUT)
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    public long getShared() {
+        return shared.sum();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.LOOKUP_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.LOOKUP_TIMEOUT);
+        }
+    }
+}
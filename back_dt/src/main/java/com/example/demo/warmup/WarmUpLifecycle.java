@@ -0,0 +1,188 @@
+package com.example.demo.warmup;
+
+import com.example.demo.dto.token.TokenDto;
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.repository.UserRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 웹 서버가 포트를 열기 전에 주요 경로를 미리 실행해 JIT 컴파일과 커넥션 풀을 데우는 라이프사이클.
+ * SmartLifecycle은 phase가 작은 순서로 시작하므로 웹 서버 시작(DEFAULT_PHASE - 2048)보다 먼저 실행되며,
+ * 워밍업이 끝나거나 제한 시간이 지나기 전까지는 포트가 열리지 않아 readiness를 읽지 못하는 nginx 같은 프록시도
+ * 차가운 인스턴스로 요청을 보내지 못함. (연결 거부는 다음 upstream으로 재시도)
+ * ReadinessState는 기동이 모두 끝난 뒤 ACCEPTING_TRAFFIC이 되므로 그 전까지 /actuator/health/readiness는 OUT_OF_SERVICE.
+ */
+@Component
+@ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmUpLifecycle implements SmartLifecycle {
+
+    // 로그 처리
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    // 워밍업 조회에 사용하는 존재하지 않는 사용자 값
+    private static final String WARMUP_KEY = "__warmup__";
+
+    private final TokenProvider tokenProvider;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final UserRecordRepository userRecordRepository;
+    private final DataSource dataSource;
+
+    private final int iterations;
+    private final int passwordIterations;
+    private final int poolConnections;
+    private final long timeoutMillis;
+
+    private volatile boolean running;
+    private volatile boolean completed;
+
+    public WarmUpLifecycle(TokenProvider tokenProvider,
+                           PasswordEncoder passwordEncoder,
+                           ObjectMapper objectMapper,
+                           UserRecordRepository userRecordRepository,
+                           DataSource dataSource,
+                           @Value("${warmup.iterations:2000}") int iterations,
+                           @Value("${warmup.password-iterations:5}") int passwordIterations,
+                           @Value("${warmup.pool-connections:10}") int poolConnections,
+                           @Value("${warmup.timeout:30s}") Duration timeout) {
+        this.tokenProvider = tokenProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.userRecordRepository = userRecordRepository;
+        this.dataSource = dataSource;
+        this.iterations = iterations;
+        this.passwordIterations = passwordIterations;
+        this.poolConnections = poolConnections;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * 워밍업을 별도 스레드에서 실행하고 제한 시간까지만 기다림.
+     * 제한 시간이 지나면 워밍업을 중단하고 웹 서버 시작을 계속 진행.
+     */
+    @Override
+    public void start() {
+        running = true;
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture<Void> warmUp = CompletableFuture.runAsync(this::warmUp, executor);
+            warmUp.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            completed = true;
+            log.info("워밍업 완료 ({} ms)", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (TimeoutException e) {
+            log.warn("워밍업이 제한 시간({} ms)을 초과하여 중단합니다.", timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 워밍업 실패가 기동을 막아서는 안 되므로 로그만 남김
+            log.warn("워밍업 중 오류가 발생했습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버 시작(DEFAULT_PHASE - 2048)보다 먼저 시작
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // 워밍업이 제한 시간 안에 끝났는지 여부
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private void warmUp() {
+        fillConnectionPool();
+        warmUpTokens();
+        warmUpPasswordEncoder();
+        warmUpRepository();
+    }
+
+    // 커넥션 풀의 최소 유휴 커넥션을 미리 생성
+    private void fillConnectionPool() {
+        List<Connection> connections = new ArrayList<>(poolConnections);
+        try {
+            for (int i = 0; i < poolConnections; i++) {
+                connections.add(dataSource.getConnection());
+            }
+        } catch (Exception e) {
+            log.warn("커넥션 풀 워밍업 실패: {}", e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception ignored) {
+                    // 반납 실패는 무시
+                }
+            }
+        }
+    }
+
+    // 토큰 발급, 검증, 인증 객체 생성 및 TokenDto 직렬화 경로를 반복 실행
+    private void warmUpTokens() {
+        for (int i = 0; i < iterations && !Thread.currentThread().isInterrupted(); i++) {
+            TokenDto tokenDto = tokenProvider.generateTokenDto(WARMUP_KEY, Role.USER.bit());
+            if (tokenProvider.validateToken(tokenDto.getAccessToken())) {
+                tokenProvider.getAuthentication(tokenDto.getAccessToken());
+            }
+            try {
+                objectMapper.writeValueAsBytes(tokenDto);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // BCrypt는 호출당 비용이 크므로 적은 횟수만 실행
+    private void warmUpPasswordEncoder() {
+        String encoded = passwordEncoder.encode(WARMUP_KEY);
+        for (int i = 0; i < passwordIterations && !Thread.currentThread().isInterrupted(); i++) {
+            passwordEncoder.matches(WARMUP_KEY, encoded);
+        }
+    }
+
+    // 로그인 및 중복 체크 쿼리 경로를 실행해 Hibernate 메타데이터와 쿼리 플랜 캐시를 채움
+    private void warmUpRepository() {
+        int queries = Math.max(1, iterations / 20);
+        for (int i = 0; i < queries && !Thread.currentThread().isInterrupted(); i++) {
+            userRecordRepository.findByUsername(WARMUP_KEY);
+            userRecordRepository.existsByEmail(WARMUP_KEY);
+            userRecordRepository.existsByNickname(WARMUP_KEY);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.demo.web;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 타입별로 루트 직렬화기를 미리 찾아 둔 ObjectWriter를 재사용하는 Jackson 메시지 컨버터.
+ * 기본 컨버터는 응답마다 ObjectMapper.writer()로 새 ObjectWriter를 만들고 직렬화할 때 루트 타입의 직렬화기를 다시 조회하지만,
+ * 이 컨버터는 실제 응답 클래스별로 한 번 만든 ObjectWriter(forType)를 꺼내 쓰므로 조회 비용이 없음.
+ * JSON View나 필터가 지정된 응답(MappingJacksonValue), 컬렉션, Map, 배열, Optional은 기본 컨버터와 같이 처리.
+ */
+public class CachingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final ConcurrentHashMap<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public CachingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        // 선언 타입(ResponseEntity<?> 등) 대신 실제 응답 클래스로 writer를 고르도록 타입을 고정
+        super.writeInternal(object, isCacheable(object) ? object.getClass() : type, outputMessage);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable JavaType javaType,
+                                           @Nullable MediaType contentType) {
+        if (javaType == null || !isCacheable(javaType.getRawClass()) || !isDefault(writer)) {
+            return writer;
+        }
+        // 같은 ObjectMapper에서 만든 기본 설정 writer이므로 타입만 고정하여 재사용
+        return writers.computeIfAbsent(javaType, writer::forType);
+    }
+
+    private static boolean isCacheable(Object object) {
+        return !(object instanceof MappingJacksonValue) && isCacheable(object.getClass());
+    }
+
+    private static boolean isCacheable(Class<?> type) {
+        return type != Object.class
+                && type != MappingJacksonValue.class
+                && !type.isArray()
+                && !Collection.class.isAssignableFrom(type)
+                && !Map.class.isAssignableFrom(type)
+                && !Optional.class.isAssignableFrom(type);
+    }
+
+    // JSON View, 필터, 루트 타입이 지정되지 않은 기본 writer인지 확인
+    private static boolean isDefault(ObjectWriter writer) {
+        SerializationConfig config = writer.getConfig();
+        return !writer.hasPrefetchedSerializer()
+                && config.getActiveView() == null
+                && config.getFilterProvider() == null;
+    }
+
+    /**
+     * 캐시된 ObjectWriter 수.
+     *
+     * @return 응답 타입 수
+     */
+    public int getCachedWriterCount() {
+        return writers.size();
+    }
+}
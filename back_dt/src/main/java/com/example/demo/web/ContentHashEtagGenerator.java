@@ -0,0 +1,35 @@
+package com.example.demo.web;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 정적 리소스 내용의 해시로 ETag를 만드는 생성기.
+ * 빌드마다 달라지는 Last-Modified와 달리 내용이 같으면 인스턴스와 재배포에 관계없이 같은 값이므로
+ * 클라이언트의 재검증 요청에 본문 없이 304로 응답할 수 있음.
+ * 리소스는 jar 안에서 바뀌지 않으므로 리소스별로 한 번만 계산.
+ * (압축본은 별도 리소스로 전달되므로 원본과 다른 ETag를 가짐)
+ */
+public class ContentHashEtagGenerator implements Function<Resource, String> {
+
+    private final ConcurrentHashMap<String, String> etags = new ConcurrentHashMap<>();
+
+    @Override
+    public String apply(Resource resource) {
+        return etags.computeIfAbsent(resource.getDescription(), description -> hash(resource));
+    }
+
+    private static String hash(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
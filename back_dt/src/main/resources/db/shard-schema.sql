@@ -0,0 +1,25 @@
+-- 샤드마다 동일하게 생성하는 테이블 (MySQL, H2 MODE=MySQL 공통)
+-- users는 username 해시로, 인덱스 테이블은 각각 email, nickname 해시로 샤드를 결정
+create table if not exists users (
+    uid bigint not null auto_increment primary key,
+    username varchar(255) not null,
+    user_pw varchar(255),
+    email varchar(255),
+    nickname varchar(255),
+    role smallint,
+    phone varchar(255),
+    token varchar(512),
+    constraint uk_users_username unique (username)
+);
+
+-- 이메일 중복 체크용 보조 테이블
+create table if not exists user_email_index (
+    email varchar(255) not null primary key,
+    username varchar(255) not null
+);
+
+-- 닉네임 중복 체크용 보조 테이블
+create table if not exists user_nickname_index (
+    nickname varchar(255) not null primary key,
+    username varchar(255) not null
+);
@@ -0,0 +1,82 @@
+package com.example.demo.openapi;
+
+import com.example.demo.DemoApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 빌드 시 OpenAPI 문서를 생성하는 도구. (Gradle generateOpenApiDocs 태스크에서 실행, openapi 소스셋이라 bootJar에는 포함되지 않음)
+ * openapi 프로필(H2 인메모리 DB)로 애플리케이션을 임의 포트에 띄워 springdoc이 만든 문서를 받은 뒤
+ * openapi.json과 미리 압축한 openapi.json.gz를 출력 디렉터리에 저장하고 종료.
+ * 운영 인스턴스(prod 프로필)는 springdoc을 끄고 이 파일을 정적 리소스로 제공.
+ */
+public final class OpenApiDocsGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenApiDocsGenerator.class);
+
+    // WebMvcConfig의 정적 문서 경로와 같은 파일명
+    private static final String DOCS_FILE = "openapi.json";
+
+    private OpenApiDocsGenerator() {
+    }
+
+    /**
+     * @param args [0] 출력 디렉터리
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("사용법: OpenApiDocsGenerator <출력 디렉터리>");
+        }
+        Path output = Path.of(args[0]);
+
+        SpringApplication application = new SpringApplication(DemoApplication.class);
+        application.setAdditionalProfiles("openapi");
+        ConfigurableApplicationContext context = application.run();
+        byte[] docs;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            docs = normalize(context.getBean(ObjectMapper.class), fetch(port));
+        } finally {
+            SpringApplication.exit(context);
+        }
+
+        Files.createDirectories(output);
+        Files.write(output.resolve(DOCS_FILE), docs);
+        try (OutputStream gzip = new GZIPOutputStream(Files.newOutputStream(output.resolve(DOCS_FILE + ".gz")))) {
+            gzip.write(docs);
+        }
+        log.info("OpenAPI 문서 생성 완료: {} ({} bytes)", output.resolve(DOCS_FILE), docs.length);
+    }
+
+    private static byte[] fetch(int port) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/v3/api-docs")).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("OpenAPI 문서 요청 실패: HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    // 생성 시 사용한 임시 포트가 servers에 들어가므로 제거하여 문서를 제공하는 호스트 기준으로 호출되도록 함
+    private static byte[] normalize(ObjectMapper objectMapper, byte[] docs) throws IOException {
+        ObjectNode root = (ObjectNode) objectMapper.readTree(docs);
+        root.remove("servers");
+        return objectMapper.writeValueAsBytes(root);
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.enums.Role;
+import com.example.demo.jfr.JfrRecordingService;
+import com.example.demo.jwt.TokenProvider;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JFR 녹화 시작, 종료, 동시 녹화 제한, 녹화 시간 상한과 관리자 권한 검사.
+ */
+@SpringBootTest(properties = "jfr.max-duration=30s")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JfrControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private JfrRecordingService jfrRecordingService;
+
+    @AfterEach
+    void tearDown() {
+        try {
+            Files.deleteIfExists(jfrRecordingService.stop());
+        } catch (CustomException | java.io.IOException ignored) {
+            // 진행 중인 녹화가 없으면 무시
+        }
+    }
+
+    @Test
+    void stopReturnsRecordingWithCustomEvents() throws Exception {
+        String token = adminToken();
+        start(token, "5").andExpect(status().isOk()).andExpect(content().string("PT5S"));
+
+        // 녹화 중에는 토큰 검증 이벤트가 기록됨
+        tokenProvider.validateToken(token);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/admin/jfr/stop").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Path file = Files.createTempFile("jfr-test-", ".jfr");
+        try {
+            Files.write(file, body);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertThat(events).extracting(event -> event.getEventType().getName())
+                    .contains("com.example.demo.TokenValidation");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void onlyOneRecordingRunsAtATime() throws Exception {
+        String token = adminToken();
+        start(token, "5").andExpect(status().isOk());
+
+        start(token, "5")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("A001"));
+    }
+
+    @Test
+    void durationIsCappedAtMaxDuration() throws Exception {
+        start(adminToken(), "3600").andExpect(status().isOk()).andExpect(content().string("PT30S"));
+    }
+
+    @Test
+    void stopWithoutRecordingIsConflict() throws Exception {
+        mockMvc.perform(post("/api/v1/admin/jfr/stop").header("Authorization", "Bearer " + adminToken()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("A002"));
+    }
+
+    @Test
+    void nonAdminIsForbidden() throws Exception {
+        String token = tokenProvider.generateTokenDto("jfr-user", Role.USER.bit()).getAccessToken();
+
+        start(token, "5").andExpect(status().isForbidden());
+    }
+
+    private String adminToken() {
+        return tokenProvider.generateTokenDto("jfr-admin", Role.ADMIN.bit()).getAccessToken();
+    }
+
+    private ResultActions start(String token, String seconds) throws Exception {
+        return mockMvc.perform(post("/api/v1/admin/jfr/start")
+                .header("Authorization", "Bearer " + token)
+                .param("seconds", seconds));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.controller;
+
+import com.example.demo.sql.QueryStats;
+import com.example.demo.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 회원 API가 실행하는 SQL 문 수가 예산을 넘지 않는지 검사.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void signupExecutesThreeLookupsAndOneInsert() throws Exception {
+        QueryStats stats = QueryBudget.atMost(4, () -> signup("budget1", "budget1@test.com", "budget1")
+                .andExpect(status().isOk()));
+
+        // 프로파일러가 INSERT를 실제로 집계했는지 확인
+        assertThat(stats.getQueries()).last().asString().startsWith("insert into users");
+    }
+
+    @Test
+    void duplicateSignupStopsAtTheFirstMatchingLookup() throws Exception {
+        signup("budget2", "budget2@test.com", "budget2").andExpect(status().isOk());
+
+        QueryBudget.atMost(1, () -> signup("budget2", "other2@test.com", "other2")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("U004")));
+        QueryBudget.atMost(2, () -> signup("other3", "budget2@test.com", "other3")
+                .andExpect(jsonPath("$.code").value("U004")));
+        QueryBudget.atMost(3, () -> signup("other4", "other4@test.com", "budget2")
+                .andExpect(jsonPath("$.code").value("U004")));
+    }
+
+    @Test
+    void loginExecutesAtMostTwoStatements() throws Exception {
+        signup("budget5", "budget5@test.com", "budget5").andExpect(status().isOk());
+
+        // 회원 조회 1건, 토큰 저장 1건
+        QueryBudget.atMost(2, () -> mockMvc.perform(post("/api/v1/user/any/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"budget5\",\"pw\":\"Passw0rd1\"}"))
+                .andExpect(status().isOk()));
+    }
+
+    private ResultActions signup(String id, String email, String nickname) throws Exception {
+        return mockMvc.perform(post("/api/v1/user/any/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"id":"%s","pw":"Passw0rd1","email":"%s","nickname":"%s","phone":"01012345678"}
+                        """.formatted(id, email, nickname)));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 대기열 가입 모드(signup.mode=queued)의 접수, 상태 조회, 워커 처리 결과를 검사.
+ */
+@SpringBootTest(properties = {"signup.mode=queued", "signup.queue.poll-interval=20ms"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerQueuedSignUpTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void queuedSignupIsAcceptedAndCompletedByWorker() throws Exception {
+        String statusUrl = signup("queued1", "queued1@test.com", "queued1")
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getHeader("Location");
+
+        assertThat(awaitFinished(statusUrl).get("status").asText()).isEqualTo("COMPLETED");
+
+        mockMvc.perform(post("/api/v1/user/any/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"queued1\",\"pw\":\"Passw0rd1\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void duplicateIsReportedThroughStatus() throws Exception {
+        awaitFinished(signup("queued2", "queued2@test.com", "queued2").andReturn().getResponse().getHeader("Location"));
+
+        String statusUrl = signup("other", "queued2@test.com", "other")
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getHeader("Location");
+
+        JsonNode result = awaitFinished(statusUrl);
+        assertThat(result.get("status").asText()).isEqualTo("FAILED");
+        assertThat(result.get("code").asText()).isEqualTo("U004");
+    }
+
+    @Test
+    void invalidRequestIsRejectedSynchronously() throws Exception {
+        signup("queued3", "not-an-email", "queued3")
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("Location"))
+                .andExpect(jsonPath("$.code").value("U005"));
+    }
+
+    @Test
+    void unknownRequestIdIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/user/any/signup/unknown"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("U007"));
+    }
+
+    private JsonNode awaitFinished(String statusUrl) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            JsonNode status = objectMapper.readTree(mockMvc.perform(get(statusUrl))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            String value = status.get("status").asText();
+            if (value.equals("COMPLETED") || value.equals("FAILED") || System.currentTimeMillis() > deadline) {
+                return status;
+            }
+            Thread.sleep(20);
+        }
+    }
+
+    private ResultActions signup(String id, String email, String nickname) throws Exception {
+        return mockMvc.perform(post("/api/v1/user/any/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"id":"%s","pw":"Passw0rd1","email":"%s","nickname":"%s","phone":"01012345678"}
+                        """.formatted(id, email, nickname)));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.demo.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH + 1_000_000;
+
+    @Test
+    void idsAreTimeOrderedAndCarryNodeId() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, 5_000, clock::get);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+        clock.addAndGet(1);
+        long third = generator.nextId();
+
+        assertThat(first).isPositive().isLessThan(second);
+        assertThat(second).isLessThan(third);
+        assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.timestampOf(third)).isEqualTo(NOW + 1);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(third)).isEqualTo(7);
+    }
+
+    @Test
+    void sequenceOverflowBorrowsNextMillisecond() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5_000, () -> NOW);
+
+        long last = 0;
+        for (int i = 0; i < 4096 + 10; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+        assertThat(SnowflakeIdGenerator.timestampOf(last)).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    void clockRollbackWithinDriftKeepsIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5_000, clock::get);
+        long before = generator.nextId();
+
+        clock.set(NOW - 1_000);
+        long after = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(SnowflakeIdGenerator.timestampOf(after)).isEqualTo(NOW);
+    }
+
+    @Test
+    void clockRollbackBeyondDriftIsRejected() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, 5_000, clock::get);
+        generator.nextId();
+
+        clock.set(NOW - 10_000);
+
+        assertThatThrownBy(generator::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void invalidNodeIdIsRejected() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void concurrentCallsNeverReturnDuplicates() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+}
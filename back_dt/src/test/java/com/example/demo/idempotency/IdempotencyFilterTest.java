@@ -0,0 +1,174 @@
+package com.example.demo.idempotency;
+
+import com.example.demo.repository.IdempotencyRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 재시도, 키 재사용, 동시 요청, 다른 노드와의 공유를 검사.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    @Test
+    void retriedSignupReplaysOriginalResponse() throws Exception {
+        signup("key-signup", "idem1")
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+
+        // 키 없이 다시 보내면 중복 오류가 나는 요청도 같은 키로 재시도하면 첫 응답을 그대로 받음
+        signup("key-signup", "idem1")
+                .andExpect(status().isOk())
+                .andExpect(content().string("SUCCESS"))
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+        signup(null, "idem1")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("U004"));
+    }
+
+    @Test
+    void reusedKeyWithDifferentBodyIsRejected() throws Exception {
+        signup("key-reuse", "idem2").andExpect(status().isOk());
+
+        signup("key-reuse", "idem3")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value("K002"));
+    }
+
+    @Test
+    void concurrentLoginsWithSameKeyShareOneResponse() throws Exception {
+        signup(null, "idem4").andExpect(status().isOk());
+
+        List<CompletableFuture<MockHttpServletResponse>> logins = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            logins.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return login("key-login", "idem4").andReturn().getResponse();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }));
+        }
+
+        List<String> tokens = new ArrayList<>();
+        int replayed = 0;
+        for (CompletableFuture<MockHttpServletResponse> login : logins) {
+            MockHttpServletResponse response = login.get(20, TimeUnit.SECONDS);
+            assertThat(response.getStatus()).isEqualTo(200);
+            tokens.add(response.getHeader("Auth"));
+            if ("true".equals(response.getHeader(IdempotencyFilter.REPLAYED_HEADER))) {
+                replayed++;
+            }
+        }
+        // 로그인은 한 번만 실행되고 나머지는 같은 토큰을 받음
+        assertThat(tokens).containsOnly(tokens.get(0));
+        assertThat(replayed).isEqualTo(3);
+    }
+
+    @Test
+    void otherNodeWaitsForClaimAndReplaysSharedResponse() throws Exception {
+        // 같은 테이블을 쓰는 다른 노드
+        IdempotencyStore otherNode = new IdempotencyStore(repository, transactionManager, objectMapper,
+                new IdempotencyProperties(true, Duration.ofMinutes(10), 100, Duration.ofSeconds(5),
+                        Duration.ofMillis(20), Duration.ofSeconds(30), Duration.ofMinutes(5), properties.maxBodySize(), properties.encryptionKey()));
+        String id = idempotencyStore.keyId("POST", "/api/v1/user/any/login", "key-node");
+        String fingerprint = idempotencyStore.fingerprint("{}".getBytes(StandardCharsets.UTF_8));
+        assertThat(idempotencyStore.begin(id, fingerprint).type()).isEqualTo(IdempotencyOutcome.Type.CLAIMED);
+
+        CompletableFuture<IdempotencyOutcome> waiting = CompletableFuture.supplyAsync(() -> otherNode.begin(id, fingerprint));
+        Thread.sleep(100);
+        assertThat(waiting).isNotDone();
+
+        idempotencyStore.complete(id, fingerprint, new StoredResponse(200, MediaType.TEXT_PLAIN_VALUE,
+                Map.of("Auth", "token"), "OK".getBytes(StandardCharsets.UTF_8)));
+
+        IdempotencyOutcome outcome = waiting.get(5, TimeUnit.SECONDS);
+        assertThat(outcome.type()).isEqualTo(IdempotencyOutcome.Type.REPLAY);
+        assertThat(outcome.response().headers()).containsEntry("Auth", "token");
+        assertThat(new String(outcome.response().body(), StandardCharsets.UTF_8)).isEqualTo("OK");
+    }
+
+    @Test
+    void invalidKeyIsRejected() throws Exception {
+        signup(" ", "idem5")
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("K001"));
+    }
+
+    @Test
+    void oversizedBodyIsRejectedBeforeHashing() throws Exception {
+        String nickname = "n".repeat((int) properties.maxBodySize().toBytes());
+
+        mockMvc.perform(post("/api/v1/user/any/signup")
+                        .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-oversized")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"idem6\",\"pw\":\"Passw0rd1\",\"email\":\"idem6@test.com\","
+                                + "\"nickname\":\"" + nickname + "\",\"phone\":\"01012345678\"}"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.code").value("K004"));
+        assertThat(repository.findById(idempotencyStore.keyId("POST", "/api/v1/user/any/signup", "key-oversized")))
+                .isEmpty();
+    }
+
+    private ResultActions signup(String key, String id) throws Exception {
+        var request = post("/api/v1/user/any/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":\"" + id + "\",\"pw\":\"Passw0rd1\",\"email\":\"" + id + "@test.com\","
+                        + "\"nickname\":\"" + id + "\",\"phone\":\"01012345678\"}");
+        if (key != null) {
+            request.header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private ResultActions login(String key, String id) throws Exception {
+        return mockMvc.perform(post("/api/v1/user/any/login")
+                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + id + "\",\"pw\":\"Passw0rd1\"}"));
+    }
+}
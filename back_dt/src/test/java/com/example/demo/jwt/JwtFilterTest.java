@@ -0,0 +1,66 @@
+package com.example.demo.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class JwtFilterTest {
+
+    private final TokenProvider tokenProvider = mock(TokenProvider.class);
+    private final JwtFilter jwtFilter = new JwtFilter(tokenProvider, new RouteClassifier());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void publicRoutesSkipTokenWork() throws Exception {
+        for (String uri : new String[]{"/api/v1/user/any/login", "/api/v1/user/auth/refresh",
+                "/swagger-ui/index.html", "/v3/api-docs/swagger-config", "/actuator/health/readiness"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+            request.addHeader("Authorization", "Bearer token");
+
+            jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        verifyNoInteractions(tokenProvider);
+    }
+
+    @Test
+    void protectedRoutesVerifyTokenOnce() throws Exception {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken("user", "token", List.of());
+        when(tokenProvider.getVerifiedAuthentication("token")).thenReturn(authentication);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/admin/jfr/start");
+        request.addHeader("Authorization", "Bearer token");
+
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(tokenProvider, times(1)).getVerifiedAuthentication("token");
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(authentication);
+    }
+
+    @Test
+    void protectedRoutesWithoutTokenStayAnonymous() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/user/me");
+
+        jwtFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verifyNoInteractions(tokenProvider);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
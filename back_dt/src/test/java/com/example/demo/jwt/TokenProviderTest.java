@@ -0,0 +1,75 @@
+package com.example.demo.jwt;
+
+import com.example.demo.enums.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenProviderTest {
+
+    private static final String SECRET = "e13af114d471424d6c9f2b7d03c3e25e630f269fbb3587f35068cb7d253150f568812b114afd8fd6941a005cdcf64b8b8baec4ce9de512b6aaad9ba732c6eee4";
+
+    private final TokenProvider tokenProvider = tokenProvider(false);
+
+    @Test
+    void authoritiesAreSharedAcrossRequests() {
+        String token = tokenProvider.generateTokenDto("user", Role.USER.bit() | Role.ADMIN.bit()).getAccessToken();
+
+        Authentication first = tokenProvider.getVerifiedAuthentication(token);
+        Authentication second = tokenProvider.getVerifiedAuthentication(token);
+
+        assertThat(first.getName()).isEqualTo("user");
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("USER", "ADMIN");
+        assertThat(first.getAuthorities()).isSameAs(second.getAuthorities());
+    }
+
+    @Test
+    void legacyAuthClaimIsStillAccepted() {
+        // rol 클레임이 도입되기 전 형식의 토큰
+        String legacyToken = Jwts.builder()
+                .setSubject("admin")
+                .claim("auth", "ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+                .compact();
+
+        RoleAuthenticationToken authentication = (RoleAuthenticationToken) tokenProvider.getVerifiedAuthentication(legacyToken);
+
+        assertThat(authentication.getRoleMask()).isEqualTo(Role.ADMIN.bit());
+        assertThat(authentication.getAuthorities()).isSameAs(RoleAuthorities.authorities(Role.ADMIN));
+    }
+
+    @Test
+    void legacyAuthClaimIsEmittedWhenEnabled() {
+        String token = tokenProvider(true).generateTokenDto("user", "USER").getAccessToken();
+        Object auth = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .get("auth");
+
+        assertThat(auth).isEqualTo("USER");
+        assertThat(tokenProvider.introspect(token).getAuthorities()).containsExactly("USER");
+    }
+
+    @Test
+    void refreshTokensCarryNoAuthorities() {
+        String refreshToken = tokenProvider.generateTokenDto("user", Role.USER.bit()).getRefreshToken();
+
+        assertThat(tokenProvider.getVerifiedAuthentication(refreshToken)).isNull();
+    }
+
+    private static TokenProvider tokenProvider(boolean legacyAuthClaim) {
+        TokenProvider provider = new TokenProvider(SECRET, legacyAuthClaim);
+        provider.afterPropertiesSet();
+        return provider;
+    }
+}
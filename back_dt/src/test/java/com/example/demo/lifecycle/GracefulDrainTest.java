@@ -0,0 +1,143 @@
+package com.example.demo.lifecycle;
+
+import com.example.demo.DemoApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 종료 중에도 이미 받은 요청은 모두 정상 응답하는지 검사.
+ * 컨텍스트를 직접 닫아야 하므로 테스트 컨텍스트 캐시를 쓰지 않고 애플리케이션을 임의 포트로 띄움.
+ */
+class GracefulDrainTest {
+
+    // 커넥션 풀 크기(10)보다 적게 유지하여 종료와 무관한 풀 고갈 오류를 피함
+    private static final int CONCURRENT_LOGINS = 8;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private ConfigurableApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    void acceptedRequestsCompleteWhileShuttingDown() throws Exception {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:drain;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--drain.readiness-delay=500ms",
+                        "--drain.timeout=10s");
+        String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        InFlightTracker tracker = context.getBean(InFlightTracker.class);
+        ApplicationAvailability availability = context.getBean(ApplicationAvailability.class);
+
+        assertThat(post(baseUrl + "/api/v1/user/any/signup", "{\"id\":\"drain1\",\"pw\":\"Passw0rd1\","
+                + "\"email\":\"drain1@test.com\",\"nickname\":\"drain1\",\"phone\":\"01012345678\"}").join().statusCode())
+                .isEqualTo(200);
+
+        // BCrypt 검증으로 시간이 걸리는 로그인을 동시에 보낸 뒤, 처리 중인 상태에서 종료 시작
+        List<CompletableFuture<HttpResponse<String>>> logins = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            logins.add(login(baseUrl));
+        }
+        awaitUntil(() -> tracker.getInFlight() > 0);
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(context::close);
+
+        // readiness를 내린 뒤에도 readiness-delay 동안 들어온 요청은 처리하고, 연결은 닫도록 알림
+        awaitUntil(tracker::isDraining);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        HttpResponse<String> lateLogin = login(baseUrl).get(10, TimeUnit.SECONDS);
+        assertThat(lateLogin.statusCode()).isEqualTo(200);
+        assertThat(lateLogin.headers().firstValue("Connection")).hasValue("close");
+
+        for (CompletableFuture<HttpResponse<String>> login : logins) {
+            assertThat(login.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        }
+        shutdown.get(20, TimeUnit.SECONDS);
+        assertThat(tracker.getInFlight()).isZero();
+        context = null;
+    }
+
+    @Test
+    void newConnectionsAreRefusedAfterReadinessDelay() throws Exception {
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:drain-refuse;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--drain.readiness-delay=100ms",
+                        "--drain.timeout=10s");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port;
+        InFlightTracker tracker = context.getBean(InFlightTracker.class);
+        // 드레인 전에 연결을 열어 둠 (HttpClient가 keep-alive 연결을 재사용)
+        assertThat(get(baseUrl + "/actuator/health").statusCode()).isEqualTo(200);
+
+        // 끝나지 않은 백그라운드 작업으로 드레인을 붙잡아 둔 채 종료 시작
+        assertThat(tracker.tryEnter()).isTrue();
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(context::close);
+        awaitUntil(tracker::isRefusing);
+
+        // readiness-delay 이후 새 연결은 거부되어 nginx가 요청을 보내기 전에 다른 인스턴스로 넘김
+        assertThatThrownBy(() -> new Socket(InetAddress.getLoopbackAddress(), port).close())
+                .isInstanceOf(ConnectException.class);
+        // 이미 열린 연결로 들어온 요청은 처리하지 않고 503으로 거절
+        HttpResponse<String> rejected = login(baseUrl).get(10, TimeUnit.SECONDS);
+        assertThat(rejected.statusCode()).isEqualTo(503);
+        assertThat(rejected.body()).contains("S005");
+        assertThat(rejected.headers().firstValue("Connection")).hasValue("close");
+        assertThat(tracker.getInFlight()).isEqualTo(1);
+
+        tracker.exit();
+        shutdown.get(20, TimeUnit.SECONDS);
+        context = null;
+    }
+
+    private CompletableFuture<HttpResponse<String>> login(String baseUrl) {
+        return post(baseUrl + "/api/v1/user/any/login", "{\"username\":\"drain1\",\"pw\":\"Passw0rd1\"}");
+    }
+
+    private HttpResponse<String> get(String url) throws Exception {
+        return httpClient.send(HttpRequest.newBuilder(URI.create(url)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompletableFuture<HttpResponse<String>> post(String url, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+}
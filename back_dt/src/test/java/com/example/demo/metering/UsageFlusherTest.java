@@ -0,0 +1,92 @@
+package com.example.demo.metering;
+
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.repository.UsageRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 인증된 요청의 사용량이 경로 패턴별로 집계되어 배치 UPSERT로 누적되고, 조회 API가 미반영 증가분까지 합산하는지 검사.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UsageFlusherTest {
+
+    private static final String ROUTE = "GET /api/v1/admin/usage";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private UsageFlusher usageFlusher;
+
+    @Autowired
+    private UsageRepository usageRepository;
+
+    @Test
+    void upsertAccumulatesExistingRows() {
+        Instant bucket = Instant.parse("2026-01-01T00:00:00Z");
+        usageRepository.upsertAll(List.of(new UsageDelta("upsert", "GET /x", bucket, 3),
+                new UsageDelta("upsert", "GET /y", bucket, 1)));
+        usageRepository.upsertAll(List.of(new UsageDelta("upsert", "GET /x", bucket, 4)));
+
+        assertThat(usageRepository.sumByRoute("upsert", bucket, bucket.plusSeconds(3600)))
+                .containsEntry("GET /x", 7L)
+                .containsEntry("GET /y", 1L);
+    }
+
+    @Test
+    void usageEndpointMergesFlushedAndPendingCalls() throws Exception {
+        String token = tokenProvider.generateTokenDto("meter-admin", Role.ADMIN.bit()).getAccessToken();
+        for (int i = 0; i < 3; i++) {
+            usage(token, "meter-admin").andExpect(status().isOk());
+        }
+        usageFlusher.flush();
+
+        // 앞의 3건은 테이블에서, 직전 요청 1건은 메모리에서 합산 (현재 요청은 응답 후에 집계)
+        usage(token, "meter-admin")
+                .andExpect(jsonPath("$.routes[0].route").value(ROUTE))
+                .andExpect(jsonPath("$.routes[0].calls").value(3));
+        usage(token, "meter-admin")
+                .andExpect(jsonPath("$.totalCalls").value(4))
+                .andExpect(jsonPath("$.todayCalls").value(4));
+
+        usageFlusher.flush();
+        Instant today = LocalDate.now(ZoneOffset.UTC).atStartOfDay(ZoneOffset.UTC).toInstant();
+        assertThat(usageRepository.sumByRoute("meter-admin", today, today.plusSeconds(86_400)))
+                .containsEntry(ROUTE, 5L);
+    }
+
+    @Test
+    void usageEndpointRequiresAdmin() throws Exception {
+        String token = tokenProvider.generateTokenDto("meter-user", Role.USER.bit()).getAccessToken();
+
+        usage(token, "meter-user").andExpect(status().isForbidden());
+    }
+
+    private ResultActions usage(String token, String principal) throws Exception {
+        return mockMvc.perform(get("/api/v1/admin/usage")
+                .header("Authorization", "Bearer " + token)
+                .param("principal", principal));
+    }
+}
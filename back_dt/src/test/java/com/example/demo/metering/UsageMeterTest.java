@@ -0,0 +1,142 @@
+package com.example.demo.metering;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class UsageMeterTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T10:15:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UsageMeter usageMeter = new UsageMeter(
+            new MeteringProperties(true, Duration.ofSeconds(10), Duration.ofHours(1), 2, 5), meterRegistry, clock);
+
+    @Test
+    void concurrentRecordsAreCountedExactly() {
+        List<CompletableFuture<Void>> workers = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> {
+                    for (int n = 0; n < 10_000; n++) {
+                        usageMeter.record("user", "GET /api/v1/user/me");
+                    }
+                }))
+                .toList();
+        workers.forEach(CompletableFuture::join);
+
+        List<UsageDelta> written = new ArrayList<>();
+        usageMeter.flush(100, written::addAll);
+
+        assertThat(written).containsExactly(new UsageDelta("user", "GET /api/v1/user/me",
+                Instant.parse("2026-01-01T10:00:00Z"), 80_000));
+        assertThat(usageMeter.getTodayCalls("user")).isEqualTo(80_000);
+    }
+
+    @Test
+    void flushWritesOnlyNewCallsAndRetriesFailedBatches() {
+        usageMeter.record("a", "GET /x");
+        usageMeter.record("a", "GET /x");
+        usageMeter.record("b", "GET /x");
+        usageMeter.record("c", "GET /x");
+
+        // 배치 크기 2, 실패한 묶음은 반영 위치가 그대로이므로 다음 flush에서 다시 기록
+        assertThatThrownBy(() -> usageMeter.flush(2, batch -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        List<UsageDelta> written = new ArrayList<>();
+        assertThat(usageMeter.flush(2, written::addAll)).isEqualTo(3);
+        assertThat(written).extracting(UsageDelta::principal, UsageDelta::calls)
+                .containsExactlyInAnyOrder(
+                        tuple("a", 2L),
+                        tuple("b", 1L),
+                        tuple("c", 1L));
+
+        usageMeter.record("a", "GET /x");
+        written.clear();
+        usageMeter.flush(2, written::addAll);
+        assertThat(written).extracting(UsageDelta::principal, UsageDelta::calls)
+                .containsExactly(tuple("a", 1L));
+        assertThat(usageMeter.pending("a", START.minus(Duration.ofDays(1)), START.plus(Duration.ofDays(1)))).isEmpty();
+    }
+
+    @Test
+    void callsAreBucketedAndFlushedBucketsAreEvicted() {
+        usageMeter.record("a", "GET /x");
+        clock.advance(Duration.ofHours(1));
+        usageMeter.record("a", "GET /x");
+
+        List<UsageDelta> written = new ArrayList<>();
+        usageMeter.flush(10, written::addAll);
+        assertThat(written).extracting(UsageDelta::bucketStart).containsExactlyInAnyOrder(
+                Instant.parse("2026-01-01T10:00:00Z"), Instant.parse("2026-01-01T11:00:00Z"));
+
+        // 직전 구간보다 오래되고 모두 반영된 카운터만 제거
+        clock.advance(Duration.ofHours(1));
+        usageMeter.flush(10, written::addAll);
+        assertThat(meterRegistry.get("app.usage.counters").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void quotaIsSoftAndResetsDaily() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(usageMeter.checkQuota("a")).isFalse();
+            usageMeter.record("a", "GET /x");
+        }
+
+        assertThat(usageMeter.checkQuota("a")).isTrue();
+        assertThat(usageMeter.checkQuota("a")).isTrue();
+        assertThat(meterRegistry.get("app.usage.quota.exceeded").counter().count()).isEqualTo(2);
+
+        clock.advance(Duration.ofDays(1));
+        assertThat(usageMeter.getTodayCalls("a")).isZero();
+        assertThat(usageMeter.checkQuota("a")).isFalse();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private final AtomicLong millis;
+
+        private MutableClock(Instant start) {
+            this.millis = new AtomicLong(start.toEpochMilli());
+        }
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.User;
+import com.example.demo.enums.Role;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Function;
+
+/**
+ * 식별자 발급 방식과 JDBC 배치 여부에 따른 INSERT 처리량을 비교하는 벤치마크.
+ * identity: 기존 IDENTITY 방식 (행마다 INSERT 후 생성된 키 조회, 배치 불가)
+ * snowflake: 애플리케이션에서 식별자를 발급하되 배치 없이 실행
+ * snowflake-batch: 애플리케이션에서 식별자를 발급하고 hibernate.jdbc.batch_size 단위로 묶어 실행
+ * ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class UserInsertBenchmark {
+
+    private static final int TRANSACTION_SIZE = 500;
+    private static final int WARMUP = 20_000;
+    private static final int MEASURE = 50_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int sequence;
+
+    @Test
+    void insertThroughput() {
+        report("identity", null, i -> new IdentityUser("identity" + i));
+        report("snowflake", 1, i -> user("snowflake" + i));
+        report("snowflake-batch", 50, i -> user("batch" + i));
+    }
+
+    private void report(String name, Integer batchSize, Function<Integer, Object> entity) {
+        run(WARMUP, batchSize, entity);
+        long elapsed = run(MEASURE, batchSize, entity);
+        System.out.printf("%-16s %,10.0f rows/s %8.2f us/row%n", name,
+                MEASURE / (elapsed / 1e9), elapsed / 1e3 / MEASURE);
+    }
+
+    // 트랜잭션마다 TRANSACTION_SIZE건을 persist 후 커밋 (batchSize가 null이면 설정값 사용)
+    private long run(int rows, Integer batchSize, Function<Integer, Object> entity) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        for (int done = 0; done < rows; done += TRANSACTION_SIZE) {
+            transaction.executeWithoutResult(status -> {
+                if (batchSize != null) {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                }
+                for (int i = 0; i < TRANSACTION_SIZE; i++) {
+                    entityManager.persist(entity.apply(sequence++));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .pw("pw")
+                .email(username + "@test.com")
+                .nickname(username)
+                .role(Role.USER)
+                .phone("010")
+                .build();
+    }
+
+    /**
+     * 비교용 IDENTITY 방식 엔티티. (User와 같은 컬럼 구성)
+     */
+    @Entity
+    @Table(name = "benchmark_identity_users")
+    static class IdentityUser {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        @Column(name = "uid")
+        private Long uid;
+
+        private String username;
+        private String userPw = "pw";
+        private String email;
+        private String nickname;
+        private Role role = Role.USER;
+        private String phone = "010";
+        private String token;
+
+        protected IdentityUser() {
+        }
+
+        IdentityUser(String username) {
+            this.username = username;
+            this.email = username + "@test.com";
+            this.nickname = username;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.demo.repository;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.enums.Role;
+import com.example.demo.id.SnowflakeIdGenerator;
+import com.example.demo.repository.impl.JdbcUserRecordRepository;
+import com.example.demo.repository.impl.JpaUserRecordRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 조회와 중복 체크 워크로드에서 JPA 구현과 JdbcClient 구현을 비교하는 벤치마크.
+ * ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserRecordRepositoryBenchmark {
+
+    private static final int USERS = 1_000;
+    private static final int WARMUP = 20_000;
+    private static final int MEASURE = 50_000;
+
+    @Autowired
+    private JpaUserRecordRepository jpaRepository;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcUserRecordRepository jdbcRepository;
+    private TransactionTemplate readOnly;
+
+    @BeforeAll
+    void setUp() {
+        jdbcRepository = new JdbcUserRecordRepository(jdbcClient, new SnowflakeIdGenerator(0));
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        for (int i = 0; i < USERS; i++) {
+            jdbcRepository.save(new UserRecord(null, "user" + i, "pw", "user" + i + "@test.com",
+                    "nick" + i, Role.USER, "010", null));
+        }
+    }
+
+    @Test
+    void login() {
+        assertThat(jdbcRepository.findByUsername("user1")).isEqualTo(jpaRepository.findByUsername("user1"));
+
+        report("login", "jpa", i -> jpaRepository.findByUsername("user" + (i % USERS)));
+        report("login", "jdbc", i -> jdbcRepository.findByUsername("user" + (i % USERS)));
+    }
+
+    @Test
+    void duplicateCheck() {
+        report("duplicate-check", "jpa", i -> duplicateCheck(jpaRepository, i));
+        report("duplicate-check", "jdbc", i -> duplicateCheck(jdbcRepository, i));
+    }
+
+    // 회원 가입 시의 아이디, 이메일, 닉네임 중복 체크와 동일한 호출 순서
+    private void duplicateCheck(UserRecordRepository repository, int i) {
+        int n = i % (USERS * 2);
+        if (!repository.existsByUsername("user" + n)
+                && !repository.existsByEmail("user" + n + "@test.com")) {
+            repository.existsByNickname("nick" + n);
+        }
+    }
+
+    private void report(String workload, String name, IntConsumer operation) {
+        run(WARMUP, operation);
+        long elapsed = run(MEASURE, operation);
+        System.out.printf("%-16s %-5s %,10.0f ops/s %8.2f us/op%n", workload, name,
+                MEASURE / (elapsed / 1e9), elapsed / 1e3 / MEASURE);
+    }
+
+    // 서비스 계층과 동일하게 읽기 전용 트랜잭션 안에서 실행
+    private long run(int iterations, IntConsumer operation) {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            int n = i;
+            readOnly.executeWithoutResult(status -> operation.accept(n));
+        }
+        return System.nanoTime() - start;
+    }
+}
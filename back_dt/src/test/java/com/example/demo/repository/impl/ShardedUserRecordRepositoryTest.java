@@ -0,0 +1,160 @@
+package com.example.demo.repository.impl;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.enums.Role;
+import com.example.demo.id.IdGenerator;
+import com.example.demo.id.SnowflakeIdGenerator;
+import com.example.demo.repository.shard.Shard;
+import com.example.demo.repository.shard.ShardDataSources;
+import com.example.demo.repository.shard.ShardRebalancer;
+import com.example.demo.repository.shard.ShardingProperties.ShardProperties;
+import com.example.demo.sql.QueryProfilingListener;
+import com.example.demo.sql.QueryStats;
+import com.example.demo.sql.SqlProfilingBeanPostProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedUserRecordRepositoryTest {
+
+    private static final int USERS = 200;
+
+    // 테스트마다 서로 다른 인메모리 DB를 사용
+    private final String prefix = "shard-test-" + UUID.randomUUID();
+    private final List<ShardDataSources> opened = new ArrayList<>();
+    private final IdGenerator idGenerator = new SnowflakeIdGenerator(0);
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(ShardDataSources::close);
+    }
+
+    @Test
+    void usersAreSpreadAcrossShardsAndFoundByUsername() {
+        ShardDataSources shards = shards(3);
+        ShardedUserRecordRepository repository = new ShardedUserRecordRepository(shards.getRouter(), idGenerator);
+        for (int i = 0; i < USERS; i++) {
+            repository.save(user(i));
+        }
+
+        for (Shard shard : shards.getRouter().getShards()) {
+            assertThat(count(shard, "users")).isPositive();
+        }
+        assertThat(repository.findByUsername("user7")).get().extracting(UserRecord::email).isEqualTo("user7@test.com");
+        assertThat(repository.existsByUsername("user7")).isTrue();
+        assertThat(repository.existsByEmail("user7@test.com")).isTrue();
+        assertThat(repository.existsByNickname("nick7")).isTrue();
+        assertThat(repository.existsByNickname("nick-none")).isFalse();
+
+        repository.updateToken("user7", "token");
+        assertThat(repository.findByUsername("user7")).get().extracting(UserRecord::token).isEqualTo("token");
+    }
+
+    @Test
+    void emailAndNicknameAreUniqueAcrossShards() {
+        ShardedUserRecordRepository repository = new ShardedUserRecordRepository(shards(3).getRouter(), idGenerator);
+        repository.save(user(1));
+
+        // 다른 사용자 이름(다른 샤드일 수 있음)으로 같은 이메일 가입
+        UserRecord sameEmail = new UserRecord(null, "other", "pw", "user1@test.com", "other-nick", Role.USER, "010", null);
+        assertThatThrownBy(() -> repository.save(sameEmail)).isInstanceOf(DataIntegrityViolationException.class);
+
+        UserRecord sameNickname = new UserRecord(null, "other", "pw", "other@test.com", "nick1", Role.USER, "010", null);
+        assertThatThrownBy(() -> repository.save(sameNickname)).isInstanceOf(DataIntegrityViolationException.class);
+
+        // 실패한 가입이 선점한 이메일은 되돌려져야 함
+        assertThat(repository.existsByEmail("other@test.com")).isFalse();
+        assertThat(repository.existsByUsername("other")).isFalse();
+    }
+
+    @Test
+    void duplicateUsernameReleasesClaimedIndexes() {
+        ShardedUserRecordRepository repository = new ShardedUserRecordRepository(shards(2).getRouter(), idGenerator);
+        repository.save(user(1));
+
+        UserRecord sameUsername = new UserRecord(null, "user1", "pw", "new@test.com", "new-nick", Role.USER, "010", null);
+        assertThatThrownBy(() -> repository.save(sameUsername)).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(repository.existsByEmail("new@test.com")).isFalse();
+        assertThat(repository.existsByNickname("new-nick")).isFalse();
+    }
+
+    @Test
+    void rebalancingToMoreShardsKeepsEveryUserReachable() {
+        ShardDataSources before = shards(2);
+        ShardedUserRecordRepository repository = new ShardedUserRecordRepository(before.getRouter(), idGenerator);
+        List<Long> uids = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            uids.add(repository.save(user(i)).uid());
+        }
+
+        ShardDataSources after = shards(3);
+        new ShardRebalancer().rebalance(before.getRouter(), after.getRouter());
+        // 중단 후 재실행해도 결과가 같아야 함
+        new ShardRebalancer().rebalance(before.getRouter(), after.getRouter());
+
+        ShardedUserRecordRepository resharded = new ShardedUserRecordRepository(after.getRouter(), idGenerator);
+        long total = 0;
+        for (Shard shard : after.getRouter().getShards()) {
+            total += count(shard, "users");
+        }
+        assertThat(total).isEqualTo(USERS);
+        for (int i = 0; i < USERS; i++) {
+            // uid는 리샤딩 후에도 그대로 유지
+            assertThat(resharded.findByUsername("user" + i)).get().extracting(UserRecord::uid).isEqualTo(uids.get(i));
+            assertThat(resharded.existsByEmail("user" + i + "@test.com")).isTrue();
+            assertThat(resharded.existsByNickname("nick" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void shardQueriesAreProfiled() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QueryProfilingListener listener = new QueryProfilingListener(meterRegistry, Duration.ofSeconds(1));
+        List<ShardProperties> properties = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            properties.add(new ShardProperties("jdbc:h2:mem:" + prefix + "-" + i + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                    "sa", "", "org.h2.Driver", 2));
+        }
+        ShardDataSources shards = new ShardDataSources(prefix, properties, true, Duration.ofSeconds(3),
+                (name, dataSource) -> SqlProfilingBeanPostProcessor.proxy(name, dataSource, listener));
+        opened.add(shards);
+        ShardedUserRecordRepository repository = new ShardedUserRecordRepository(shards.getRouter(), idGenerator);
+        repository.save(user(1));
+
+        try (QueryStats stats = QueryStats.begin()) {
+            assertThat(repository.findByUsername("user1")).isPresent();
+            assertThat(stats.getStatements()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.find("db.query").timers()).isNotEmpty();
+    }
+
+    // 같은 prefix의 shard0..n-1 DB에 연결 (이미 있는 DB는 그대로 사용)
+    private ShardDataSources shards(int count) {
+        List<ShardProperties> properties = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            properties.add(new ShardProperties("jdbc:h2:mem:" + prefix + "-" + i + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                    "sa", "", "org.h2.Driver", 2));
+        }
+        ShardDataSources shards = new ShardDataSources(prefix, properties, true);
+        opened.add(shards);
+        return shards;
+    }
+
+    private static long count(Shard shard, String table) {
+        return shard.jdbcClient().sql("select count(*) from " + table).query(Long.class).single();
+    }
+
+    private static UserRecord user(int i) {
+        return new UserRecord(null, "user" + i, "pw", "user" + i + "@test.com", "nick" + i, Role.USER, "010", null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.repository.shard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRouterTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void hashIsStable() {
+        // 노드나 JVM이 달라도 같은 샤드를 가리켜야 하므로 고정값과 비교
+        assertThat(ShardRouter.fnv1a64("".getBytes())).isEqualTo(0xcbf29ce484222325L);
+        assertThat(ShardRouter.fnv1a64("a".getBytes())).isEqualTo(0xaf63dc4c8601ec8cL);
+        assertThat(ShardRouter.shardIndex("user1", 4)).isEqualTo(ShardRouter.shardIndex("user1", 4));
+    }
+
+    @Test
+    void keysAreSpreadEvenly() {
+        int shards = 4;
+        int[] counts = new int[shards];
+        for (int i = 0; i < KEYS; i++) {
+            counts[ShardRouter.shardIndex("user" + i, shards)]++;
+        }
+        for (int count : counts) {
+            assertThat(count).isBetween(KEYS / shards * 9 / 10, KEYS / shards * 11 / 10);
+        }
+    }
+
+    @Test
+    void addingShardMovesOnlyItsShareToTheNewShard() {
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            int before = ShardRouter.shardIndex("user" + i, 3);
+            int after = ShardRouter.shardIndex("user" + i, 4);
+            if (before != after) {
+                assertThat(after).isEqualTo(3);
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(KEYS / 4 * 9 / 10, KEYS / 4 * 11 / 10);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.demo.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(1).toNanos();
+
+    private final CircuitBreaker circuitBreaker =
+            new CircuitBreaker(2, Duration.ofMillis(100), Duration.ofMillis(50));
+
+    @Test
+    void callsStartedWhileClosedDoNotDecideHalfOpenState() throws Exception {
+        CircuitBreaker.Permission stale = circuitBreaker.tryAcquirePermission();
+        openAndWaitForHalfOpen();
+
+        CircuitBreaker.Permission trial = circuitBreaker.tryAcquirePermission();
+        assertThat(trial).isEqualTo(CircuitBreaker.Permission.TRIAL);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // CLOSED 때 시작한 호출의 결과와 반납은 시험 호출 자리와 상태를 건드리지 않음
+        circuitBreaker.onSuccess(stale, FAST);
+        circuitBreaker.releasePermission(stale);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.Permission.DENIED);
+
+        circuitBreaker.onSuccess(trial, FAST);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void staleFailureDoesNotReopenAndTrialFailureDoes() throws Exception {
+        CircuitBreaker.Permission stale = circuitBreaker.tryAcquirePermission();
+        openAndWaitForHalfOpen();
+        CircuitBreaker.Permission trial = circuitBreaker.tryAcquirePermission();
+
+        circuitBreaker.onFailure(stale);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onFailure(trial);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEqualTo(CircuitBreaker.Permission.DENIED);
+    }
+
+    private void openAndWaitForHalfOpen() throws InterruptedException {
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.onFailure(circuitBreaker.tryAcquirePermission());
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        Thread.sleep(80);
+    }
+}
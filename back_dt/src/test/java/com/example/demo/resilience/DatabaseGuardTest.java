@@ -0,0 +1,153 @@
+package com.example.demo.resilience;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.enums.Role;
+import com.example.demo.id.SnowflakeIdGenerator;
+import com.example.demo.repository.impl.JdbcUserRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DatabaseGuardTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+    private FaultInjectingDataSource dataSource;
+    private JdbcUserRecordRepository repository;
+    private DatabaseGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new FaultInjectingDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:guard;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        JdbcClient jdbcClient = JdbcClient.create(dataSource);
+        jdbcClient.sql("create table if not exists users (uid bigint auto_increment primary key, "
+                + "username varchar(255), user_pw varchar(255), email varchar(255), nickname varchar(255), "
+                + "role tinyint, phone varchar(255), token varchar(255))").update();
+        repository = new JdbcUserRecordRepository(jdbcClient, new SnowflakeIdGenerator(0));
+        repository.save(new UserRecord(null, "alice", "pw", "alice@test.com", "alice", Role.USER, "010", null));
+
+        guard = new DatabaseGuard(new DatabaseGuardProperties(
+                new DatabaseGuardProperties.CircuitBreakerProperties(5, Duration.ofMillis(100), Duration.ofMillis(500)),
+                Map.of(DbLane.LOGIN, new DatabaseGuardProperties.BulkheadProperties(2, Duration.ofMillis(20)),
+                        DbLane.LOOKUP, new DatabaseGuardProperties.BulkheadProperties(4, Duration.ofMillis(20)))),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        dataSource.heal();
+        JdbcClient.create(dataSource).sql("drop table users").update();
+    }
+
+    @Test
+    void p99StaysBoundedWhileDatabaseIsSlow() throws Exception {
+        dataSource.setLatencyMillis(300);
+
+        List<Long> latencies = runConcurrently(400, DbLane.LOOKUP);
+
+        Collections.sort(latencies);
+        long p50 = latencies.get(latencies.size() / 2);
+        long p99 = latencies.get((int) (latencies.size() * 0.99));
+        // 느린 호출이 임계치를 넘으면 서킷이 열려 나머지는 DB에 접근하지 않고 즉시 실패
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(p50).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(p99).isLessThan(TimeUnit.MILLISECONDS.toNanos(1_000));
+        assertThat(dataSource.getConnectionAttempts()).isLessThan(20);
+    }
+
+    @Test
+    void openCircuitFailsFastAndRecovers() throws Exception {
+        dataSource.setErrorRate(1.0);
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> guard.call(DbLane.LOOKUP, () -> repository.existsByUsername("alice")))
+                    .isNotInstanceOf(CustomException.class);
+        }
+        int attempts = dataSource.getConnectionAttempts();
+
+        assertErrorCode(() -> guard.call(DbLane.LOOKUP, () -> repository.existsByUsername("alice")),
+                ErrorCode.DB_UNAVAILABLE);
+        assertThat(dataSource.getConnectionAttempts()).isEqualTo(attempts);
+
+        // OPEN 유지 시간이 지나면 시험 호출 1건이 성공하여 다시 CLOSED
+        dataSource.heal();
+        Thread.sleep(600);
+        assertThat(guard.call(DbLane.LOOKUP, () -> repository.existsByUsername("alice"))).isTrue();
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void saturatedLoginLaneDoesNotBlockLookups() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Boolean>> blocked = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            blocked.add(executor.submit(() -> guard.call(DbLane.LOGIN, () -> {
+                await(release);
+                return repository.existsByUsername("alice");
+            })));
+        }
+        Thread.sleep(100);
+
+        assertErrorCode(() -> guard.call(DbLane.LOGIN, () -> repository.existsByUsername("alice")), ErrorCode.DB_BUSY);
+        assertThat(guard.call(DbLane.LOOKUP, () -> repository.existsByUsername("alice"))).isTrue();
+
+        release.countDown();
+        for (Future<Boolean> future : blocked) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    // 각 호출의 소요 시간(ns)을 수집, 실패한 호출도 포함
+    private List<Long> runConcurrently(int calls, DbLane lane) throws Exception {
+        List<Future<Long>> futures = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            futures.add(executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    guard.call(lane, () -> repository.findByUsername("alice"));
+                } catch (RuntimeException ignored) {
+                    // 실패한 호출도 지연 시간에 포함
+                }
+                return System.nanoTime() - start;
+            }));
+        }
+        List<Long> latencies = new ArrayList<>();
+        for (Future<Long> future : futures) {
+            latencies.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return latencies;
+    }
+
+    private static void assertErrorCode(Runnable call, ErrorCode errorCode) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
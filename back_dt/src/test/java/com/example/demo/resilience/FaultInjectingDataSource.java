@@ -0,0 +1,118 @@
+package com.example.demo.resilience;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 장애 주입 DataSource.
+ * 커넥션 획득과 쿼리 실행에 지연과 오류를 설정한 비율만큼 주입하여 DB 성능 저하 상황을 재현.
+ */
+public class FaultInjectingDataSource extends DelegatingDataSource {
+
+    private volatile long latencyMillis;
+    private volatile double errorRate;
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public FaultInjectingDataSource(DataSource target) {
+        super(target);
+    }
+
+    // 커넥션 획득과 쿼리 실행마다 추가할 지연 시간
+    public void setLatencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    // 커넥션 획득과 쿼리 실행이 실패할 확률(0.0 ~ 1.0)
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    public void heal() {
+        latencyMillis = 0;
+        errorRate = 0;
+    }
+
+    // 커넥션 획득 시도 횟수
+    public int getConnectionAttempts() {
+        return connections.get();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        connections.incrementAndGet();
+        injectFault();
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        connections.incrementAndGet();
+        injectFault();
+        return wrap(super.getConnection(username, password));
+    }
+
+    private void injectFault() throws SQLException {
+        long latency = latencyMillis;
+        if (latency > 0) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("interrupted");
+            }
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            throw new SQLTransientConnectionException("injected fault");
+        }
+    }
+
+    // 커넥션에서 만든 Statement의 execute* 호출에도 장애를 주입
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                delegating(connection, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        return wrap(statement, method.getReturnType());
+                    }
+                    return result;
+                }));
+    }
+
+    private Object wrap(Statement statement, Class<?> type) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                delegating(statement, (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute")) {
+                        injectFault();
+                    }
+                    return invoke(statement, method, args);
+                }));
+    }
+
+    private static InvocationHandler delegating(Object target, InvocationHandler handler) {
+        return (proxy, method, args) -> {
+            if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                return invoke(target, method, args);
+            }
+            return handler.invoke(proxy, method, args);
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
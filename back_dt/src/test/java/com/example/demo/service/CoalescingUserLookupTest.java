@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.enums.Role;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.resilience.DatabaseGuard;
+import com.example.demo.resilience.DatabaseGuardProperties;
+import com.example.demo.resilience.DbLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoalescingUserLookupTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void waitingCallersDoNotTakeLanePermits() throws Exception {
+        UserRecord alice = new UserRecord(1L, "alice", "pw", "alice@test.com", "alice", Role.USER, "010", null);
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UserRecordRepository repository = mock(UserRecordRepository.class);
+        when(repository.findByUsername("alice")).thenAnswer(invocation -> {
+            queryStarted.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(alice);
+        });
+        // LOGIN 구획은 1자리뿐이므로 기다리는 요청이 자리를 잡으면 DB_BUSY로 실패
+        DatabaseGuard guard = new DatabaseGuard(new DatabaseGuardProperties(
+                new DatabaseGuardProperties.CircuitBreakerProperties(5, Duration.ofSeconds(1), Duration.ofSeconds(1)),
+                Map.of(DbLane.LOGIN, new DatabaseGuardProperties.BulkheadProperties(1, Duration.ofMillis(10)))),
+                new SimpleMeterRegistry());
+        CoalescingUserLookup lookup = new CoalescingUserLookup(repository, guard, new SimpleMeterRegistry(), Duration.ofSeconds(5));
+
+        List<Future<Optional<UserRecord>>> futures = new ArrayList<>();
+        futures.add(executor.submit(() -> lookup.findByUsername("alice", DbLane.LOGIN)));
+        assertThat(queryStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 7; i++) {
+            futures.add(executor.submit(() -> lookup.findByUsername("alice", DbLane.LOGIN)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<Optional<UserRecord>> future : futures) {
+            assertThat(future.get(5, TimeUnit.SECONDS)).contains(alice);
+        }
+        verify(repository, times(1)).findByUsername("alice");
+    }
+}
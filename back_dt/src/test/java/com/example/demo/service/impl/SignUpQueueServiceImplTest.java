@@ -0,0 +1,94 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.domain.PendingSignUp;
+import com.example.demo.dto.user.SignUpRequestDto;
+import com.example.demo.enums.SignUpStatus;
+import com.example.demo.repository.PendingSignUpRepository;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 대기열 워커 배치의 처리 결과 기록을 검사.
+ * 일시적인 DB 오류는 대기 상태로 되돌리고, 다시 선점된 요청의 결과는 덮어쓰지 않아야 함.
+ */
+class SignUpQueueServiceImplTest {
+
+    private static final String CLAIM_TOKEN = "claim-1";
+
+    private final PendingSignUpRepository pendingSignUpRepository = mock(PendingSignUpRepository.class);
+    private final UserService userService = mock(UserService.class);
+
+    private final SignUpQueueServiceImpl signUpQueueService = new SignUpQueueServiceImpl(pendingSignUpRepository,
+            mock(UserRecordRepository.class), userService, mock(PlatformTransactionManager.class),
+            "queued", 20, Duration.ofMinutes(5), Duration.ofDays(1), "Ck/UjYQALlNBzQu5bHHyoTQRAE5qnehtH5ninyU/dNE=");
+
+    @BeforeEach
+    void setUp() {
+        when(pendingSignUpRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        signUpQueueService.enqueue(new SignUpRequestDto("queued", "Passw0rd1", "queued@test.com", "queued", "010"));
+        ArgumentCaptor<PendingSignUp> enqueued = ArgumentCaptor.forClass(PendingSignUp.class);
+        verify(pendingSignUpRepository).save(enqueued.capture());
+
+        PendingSignUp claimed = PendingSignUp.builder()
+                .id(1L)
+                .requestId(enqueued.getValue().getRequestId())
+                .username("queued")
+                .encryptedPw(enqueued.getValue().getEncryptedPw())
+                .email("queued@test.com")
+                .nickname("queued")
+                .status(SignUpStatus.PROCESSING)
+                .claimToken(CLAIM_TOKEN)
+                .claimedAt(Instant.now())
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+        when(pendingSignUpRepository.findClaimableIds(any(), any())).thenReturn(List.of(1L));
+        when(pendingSignUpRepository.claim(any(), anyString(), any(), any())).thenReturn(1);
+        when(pendingSignUpRepository.findByClaimToken(anyString())).thenReturn(List.of(claimed));
+    }
+
+    @Test
+    void transientDatabaseFailureReleasesTheRequest() {
+        doThrow(new CannotGetJdbcConnectionException("pool exhausted", new SQLTransientConnectionException()))
+                .when(userService).signup(any());
+        when(pendingSignUpRepository.saveIfClaimed(any(), eq(CLAIM_TOKEN))).thenReturn(1);
+
+        assertThat(signUpQueueService.processBatch()).isZero();
+
+        ArgumentCaptor<PendingSignUp> saved = ArgumentCaptor.forClass(PendingSignUp.class);
+        verify(pendingSignUpRepository).saveIfClaimed(saved.capture(), eq(CLAIM_TOKEN));
+        assertThat(saved.getValue().getStatus()).isEqualTo(SignUpStatus.PENDING);
+        assertThat(saved.getValue().getErrorCode()).isNull();
+        assertThat(saved.getValue().getEncryptedPw()).isNotNull();
+    }
+
+    @Test
+    void resultIsNotCountedWhenAnotherWorkerReclaimedTheRequest() {
+        when(pendingSignUpRepository.saveIfClaimed(any(), eq(CLAIM_TOKEN))).thenReturn(0);
+
+        assertThat(signUpQueueService.processBatch()).isZero();
+
+        verify(userService).signup(any());
+        verify(pendingSignUpRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.token.IntrospectionResponseDto;
+import com.example.demo.dto.token.TokenIntrospectionDto;
+import com.example.demo.jwt.TokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenIntrospectionServiceImplTest {
+
+    private static final String SECRET = "e13af114d471424d6c9f2b7d03c3e25e630f269fbb3587f35068cb7d253150f568812b114afd8fd6941a005cdcf64b8b8baec4ce9de512b6aaad9ba732c6eee4";
+
+    private TokenProvider tokenProvider;
+    private TokenIntrospectionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(SECRET, true);
+        tokenProvider.afterPropertiesSet();
+        service = new TokenIntrospectionServiceImpl(tokenProvider, new SimpleMeterRegistry(),
+                "internal-key", 100, Duration.ofSeconds(30), 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void resultsFollowRequestOrder() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tokens.add(tokenProvider.generateTokenDto("user" + i, "USER").getAccessToken());
+        }
+        tokens.add(5, "not-a-token");
+        // 같은 토큰이 여러 번 있어도 각 위치에 결과를 채움
+        tokens.add(tokens.get(0));
+
+        IntrospectionResponseDto response = service.introspect(tokens);
+
+        List<TokenIntrospectionDto> results = response.getResults();
+        assertThat(results).hasSize(tokens.size());
+        assertThat(results.get(0).getSubject()).isEqualTo("user0");
+        assertThat(results.get(5).isActive()).isFalse();
+        assertThat(results.get(6).getSubject()).isEqualTo("user5");
+        assertThat(results.get(6).getAuthorities()).containsExactly("USER");
+        assertThat(results.get(results.size() - 1).getSubject()).isEqualTo("user0");
+        assertThat(response.getMaxAgeSeconds()).isBetween(29L, 30L);
+    }
+
+    @Test
+    void refreshTokensAreInactive() {
+        String refreshToken = tokenProvider.generateTokenDto("user", "USER").getRefreshToken();
+
+        assertThat(service.introspect(List.of(refreshToken)).getResults().get(0).isActive()).isFalse();
+    }
+
+    @Test
+    void rejectsWrongInternalKey() {
+        service.verifyInternalKey("internal-key");
+
+        assertThatThrownBy(() -> service.verifyInternalKey("wrong"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_INTERNAL_KEY));
+        assertThatThrownBy(() -> service.verifyInternalKey(null)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void rejectsOversizedBatch() {
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            tokens.add("token" + i);
+        }
+
+        assertThatThrownBy(() -> service.introspect(tokens)).isInstanceOf(CustomException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.service.impl;
+
+import com.example.demo.domain.UserRecord;
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.user.SignUpRequestDto;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.repository.UserRecordRepository;
+import com.example.demo.resilience.CircuitBreaker;
+import com.example.demo.resilience.DatabaseGuard;
+import com.example.demo.resilience.DatabaseGuardProperties;
+import com.example.demo.resilience.DbLane;
+import com.example.demo.service.CoalescingUserLookup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회원 가입의 비밀번호 암호화는 SIGNUP 구획과 서킷 브레이커의 느린 호출 판정 밖에서, 저장은 구획 안에서 실행되는지 검사.
+ */
+class UserServiceImplTest {
+
+    private final UserRecordRepository userRecordRepository = mock(UserRecordRepository.class);
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+
+    // SIGNUP 구획 1개, 10ms 넘는 호출 한 번이면 서킷 브레이커가 열림
+    private final DatabaseGuard databaseGuard = new DatabaseGuard(new DatabaseGuardProperties(
+            new DatabaseGuardProperties.CircuitBreakerProperties(1, Duration.ofMillis(10), Duration.ofSeconds(10)),
+            Map.of(DbLane.SIGNUP, new DatabaseGuardProperties.BulkheadProperties(1, Duration.ZERO))),
+            new SimpleMeterRegistry());
+
+    private final UserServiceImpl userService = new UserServiceImpl(userRecordRepository,
+            mock(CoalescingUserLookup.class), passwordEncoder, mock(AuthenticationManagerBuilder.class),
+            mock(TokenProvider.class), databaseGuard, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Test
+    void onlyTheInsertRunsInsideTheSignupLane() {
+        // 암호화 중에 같은 구획의 허가를 얻을 수 있어야 함 (구획을 점유 중이면 DB_BUSY)
+        when(passwordEncoder.encode("Passw0rd1"))
+                .thenAnswer(invocation -> databaseGuard.call(DbLane.SIGNUP, () -> "hash"));
+        // 저장은 구획 안에서 실행되므로 같은 구획의 허가를 더 얻을 수 없음
+        when(userRecordRepository.save(any())).thenAnswer(invocation -> {
+            assertThatThrownBy(() -> databaseGuard.call(DbLane.SIGNUP, () -> "nested"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode").isEqualTo(ErrorCode.DB_BUSY);
+            return invocation.getArgument(0);
+        });
+
+        userService.signup(signUpRequest());
+
+        verify(userRecordRepository).save(any(UserRecord.class));
+    }
+
+    @Test
+    void slowHashingIsNotCountedAsSlowDatabaseCall() {
+        when(passwordEncoder.encode("Passw0rd1")).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return "hash";
+        });
+        when(userRecordRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userService.signup(signUpRequest());
+
+        assertThat(databaseGuard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private SignUpRequestDto signUpRequest() {
+        return new SignUpRequestDto("guarded", "Passw0rd1", "guarded@test.com", "guarded", "010");
+    }
+}
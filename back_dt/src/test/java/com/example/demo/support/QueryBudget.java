@@ -0,0 +1,45 @@
+package com.example.demo.support;
+
+import com.example.demo.sql.QueryStats;
+
+/**
+ * 테스트에서 코드 블록이 실행하는 SQL 문 수를 검사하는 도우미.
+ * <pre>
+ * QueryBudget.atMost(1, () -> mockMvc.perform(post("/api/v1/user/any/signup")...));
+ * </pre>
+ * 애플리케이션의 DataSource가 SQL 프로파일러로 감싸져 있어야 함. (sql-profiler.enabled=true, 기본값)
+ */
+public final class QueryBudget {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private QueryBudget() {}
+
+    /**
+     * 블록이 실행한 SQL 문이 maxStatements개 이하인지 검사.
+     *
+     * @return 블록의 측정 결과
+     * @throws AssertionError 예산을 넘은 경우, 실행된 SQL 목록을 메시지에 포함
+     */
+    public static QueryStats atMost(int maxStatements, Action action) throws Exception {
+        QueryStats stats = measure(action);
+        if (stats.getStatements() > maxStatements) {
+            throw new AssertionError(String.format("쿼리 예산 초과: %d건 실행 (예산 %d건)%n%s",
+                    stats.getStatements(), maxStatements, String.join(System.lineSeparator(), stats.getQueries())));
+        }
+        return stats;
+    }
+
+    /**
+     * 블록이 실행한 SQL 문 수를 측정.
+     */
+    public static QueryStats measure(Action action) throws Exception {
+        try (QueryStats stats = QueryStats.begin()) {
+            action.run();
+            return stats;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.tokenserver;
+
+import com.example.demo.DemoApplication;
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.tokenserver.client.TokenVerificationClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.UnixDomainSocketAddress;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 1건 검증의 왕복 지연을 HTTP 일괄 검증 API(JSON, 토큰 1개)와 Unix 도메인 소켓 바이너리 프로토콜로 비교하는 벤치마크.
+ * HTTP 쪽 결과 캐시가 적중하지 않도록 요청마다 다른 토큰을 사용.
+ * ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TokenVerificationLatencyBenchmark {
+
+    private static final String INTERNAL_KEY = "benchmark";
+    private static final int WARMUP = 5_000;
+    private static final int MEASURE = 20_000;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private ConfigurableApplicationContext context;
+    private Path socketDir;
+    private String introspectUrl;
+    private TokenVerificationClient client;
+    private String[] tokens;
+
+    @BeforeAll
+    void setUp() throws Exception {
+        socketDir = Files.createTempDirectory("token-server");
+        Path socket = socketDir.resolve("token.sock");
+        context = new SpringApplicationBuilder(DemoApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--introspection.internal-key=" + INTERNAL_KEY,
+                        "--token-server.enabled=true",
+                        "--token-server.socket-path=" + socket);
+        introspectUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                + "/api/v1/internal/token/introspect";
+        client = TokenVerificationClient.connect(UnixDomainSocketAddress.of(socket));
+
+        TokenProvider tokenProvider = context.getBean(TokenProvider.class);
+        tokens = new String[2 * (WARMUP + MEASURE)];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokenProvider.generateTokenDto("user" + i, Role.USER.bit()).getAccessToken();
+        }
+    }
+
+    @AfterAll
+    void tearDown() throws Exception {
+        client.close();
+        context.close();
+        Files.deleteIfExists(socketDir);
+    }
+
+    @Test
+    void latency() throws Exception {
+        assertThat(client.verify(tokens[0], Duration.ofSeconds(1)).active()).isTrue();
+        assertThat(http(tokens[0]).statusCode()).isEqualTo(200);
+
+        report("http-json", 0, i -> {
+            try {
+                http(tokens[i]);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        report("uds-binary", WARMUP + MEASURE, i -> {
+            try {
+                client.verify(tokens[i], Duration.ofSeconds(1));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private HttpResponse<String> http(String token) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(introspectUrl))
+                .header("Content-Type", "application/json")
+                .header("X-Internal-Key", INTERNAL_KEY)
+                .POST(HttpRequest.BodyPublishers.ofString("{\"tokens\":[\"" + token + "\"]}"))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    // 요청을 하나씩 보내고 응답을 받을 때까지의 시간을 측정
+    private void report(String name, int offset, IntConsumer operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.accept(offset + i);
+        }
+        long[] latencies = new long[MEASURE];
+        for (int i = 0; i < MEASURE; i++) {
+            long start = System.nanoTime();
+            operation.accept(offset + WARMUP + i);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        System.out.printf("%-10s p50 %8.1f us  p99 %8.1f us  max %9.1f us%n", name,
+                latencies[MEASURE / 2] / 1e3, latencies[MEASURE * 99 / 100] / 1e3, latencies[MEASURE - 1] / 1e3);
+    }
+}
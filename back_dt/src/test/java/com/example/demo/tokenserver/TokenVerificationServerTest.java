@@ -0,0 +1,222 @@
+package com.example.demo.tokenserver;
+
+import com.example.demo.enums.Role;
+import com.example.demo.jwt.TokenProvider;
+import com.example.demo.jwt.VerifiedToken;
+import com.example.demo.tokenserver.client.TokenVerification;
+import com.example.demo.tokenserver.client.TokenVerificationClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenVerificationServerTest {
+
+    private static final String SECRET = "e13af114d471424d6c9f2b7d03c3e25e630f269fbb3587f35068cb7d253150f568812b114afd8fd6941a005cdcf64b8b8baec4ce9de512b6aaad9ba732c6eee4";
+
+    @TempDir
+    Path tempDir;
+
+    private TokenProvider tokenProvider;
+    private TokenVerificationServer server;
+    private UnixDomainSocketAddress address;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new TokenProvider(SECRET, false);
+        tokenProvider.afterPropertiesSet();
+        address = UnixDomainSocketAddress.of(tempDir.resolve("token.sock"));
+        server = startServer(tokenProvider, 2, 256, 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void validTokenReturnsSubjectRolesAndExpiry() throws Exception {
+        String token = tokenProvider.generateTokenDto("user", Role.USER.bit() | Role.ADMIN.bit()).getAccessToken();
+
+        try (TokenVerificationClient client = TokenVerificationClient.connect(address)) {
+            TokenVerification result = client.verify(token, Duration.ofSeconds(5));
+
+            assertThat(result.active()).isTrue();
+            assertThat(result.subject()).isEqualTo("user");
+            assertThat(result.authorities()).containsExactly("USER", "ADMIN");
+            assertThat(result.expiresAt()).isGreaterThan(System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    void invalidTokenIsInactive() throws Exception {
+        try (TokenVerificationClient client = TokenVerificationClient.connect(address)) {
+            TokenVerification result = client.verify("not.a.token", Duration.ofSeconds(5));
+
+            assertThat(result.active()).isFalse();
+            assertThat(result.subject()).isNull();
+        }
+    }
+
+    @Test
+    void malformedTokenIsRejectedAndConnectionKeepsServing() throws Exception {
+        server.stop();
+        server = startServer(tokenProvider, 1, 1, 1024);
+        String token = tokenProvider.generateTokenDto("user", Role.USER.bit()).getAccessToken();
+
+        try (TokenVerificationClient client = TokenVerificationClient.connect(address)) {
+            // Base64url이 아닌 토큰은 검증 중 예외가 나더라도 BAD_REQUEST로 응답
+            assertThatThrownBy(() -> client.verify("a!b.c.d", Duration.ofSeconds(5)))
+                    .isInstanceOf(IOException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            // 처리 중 요청 한도(1)가 반환되어 같은 연결에서 다음 요청도 처리
+            assertThat(client.verify(token, Duration.ofSeconds(5)).active()).isTrue();
+        }
+    }
+
+    @Test
+    void pipelinedRequestsAreMatchedByRequestId() throws Exception {
+        List<String> subjects = new ArrayList<>();
+        List<CompletableFuture<TokenVerification>> results = new ArrayList<>();
+        try (TokenVerificationClient client = TokenVerificationClient.connect(address)) {
+            // 응답을 기다리지 않고 유효/무효 토큰을 섞어서 연속 전송
+            for (int i = 0; i < 200; i++) {
+                String subject = i % 3 == 0 ? null : "user" + i;
+                subjects.add(subject);
+                String token = subject == null ? "invalid" + i : tokenProvider.generateTokenDto(subject, Role.USER.bit()).getAccessToken();
+                results.add(client.verifyAsync(token));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                TokenVerification result = results.get(i).get(5, TimeUnit.SECONDS);
+                assertThat(result.active()).isEqualTo(subjects.get(i) != null);
+                assertThat(result.subject()).isEqualTo(subjects.get(i));
+            }
+        }
+    }
+
+    @Test
+    void oversizedFrameClosesConnection() throws Exception {
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(address);
+            channel.write(ByteBuffer.allocate(8).putInt(TokenWireProtocol.DEFAULT_MAX_FRAME_LENGTH + 1).putInt(1).flip());
+
+            assertThat(readUntilClosed(channel)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void requestsBeyondInFlightLimitAreNotReadUntilResponsesAreWritten() throws Exception {
+        BlockingTokenProvider blocking = new BlockingTokenProvider();
+        server.stop();
+        server = startServer(blocking, 4, 2, 1024);
+        String token = tokenProvider.generateTokenDto("user", Role.USER.bit()).getAccessToken();
+
+        try (TokenVerificationClient client = TokenVerificationClient.connect(address)) {
+            List<CompletableFuture<TokenVerification>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                results.add(client.verifyAsync(token));
+            }
+            // 작업 스레드가 남아 있어도 한 연결에서는 한도(2)만큼만 검증을 시작
+            awaitUntil(() -> blocking.started.get() == 2);
+            Thread.sleep(200);
+            assertThat(blocking.started.get()).isEqualTo(2);
+
+            blocking.release.countDown();
+            for (CompletableFuture<TokenVerification> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).active()).isTrue();
+            }
+            assertThat(blocking.started.get()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void fullWorkQueueRespondsBusy() throws Exception {
+        BlockingTokenProvider blocking = new BlockingTokenProvider();
+        server.stop();
+        server = startServer(blocking, 1, 256, 1);
+        String token = tokenProvider.generateTokenDto("user", Role.USER.bit()).getAccessToken();
+
+        try (TokenVerificationClient client = TokenVerificationClient.connect(address)) {
+            // 첫 요청은 작업 스레드에서 멈추고, 두 번째는 대기열(1)에 들어간 뒤 세 번째는 BUSY
+            CompletableFuture<TokenVerification> running = client.verifyAsync(token);
+            awaitUntil(() -> blocking.started.get() == 1);
+            CompletableFuture<TokenVerification> queued = client.verifyAsync(token);
+            CompletableFuture<TokenVerification> rejected = client.verifyAsync(token);
+
+            assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+
+            blocking.release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS).active()).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS).active()).isTrue();
+        }
+    }
+
+    private TokenVerificationServer startServer(TokenProvider provider, int workers, int maxInFlight, int queueCapacity) {
+        TokenVerificationServer started = new TokenVerificationServer(provider, address, workers,
+                TokenWireProtocol.DEFAULT_MAX_FRAME_LENGTH, maxInFlight, queueCapacity);
+        started.start();
+        return started;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    // release 전까지 검증을 멈춰 두는 TokenProvider
+    private static class BlockingTokenProvider extends TokenProvider {
+
+        private final AtomicInteger started = new AtomicInteger();
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingTokenProvider() {
+            super(SECRET, false);
+            afterPropertiesSet();
+        }
+
+        @Override
+        public VerifiedToken verify(String token) {
+            started.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.verify(token);
+        }
+    }
+
+    private static int readUntilClosed(SocketChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        int read;
+        while ((read = channel.read(buffer)) > 0) {
+            buffer.clear();
+        }
+        return read;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EncryptionKeysTest {
+
+    private static final String PROPERTY = "idempotency.encryption-key";
+
+    @Test
+    void decodesBase64Aes256Key() {
+        byte[] key = new byte[32];
+        key[0] = 1;
+
+        assertThat(EncryptionKeys.requireAes256Key(PROPERTY, Base64.getEncoder().encodeToString(key))).isEqualTo(key);
+    }
+
+    @Test
+    void missingKeyFailsWithPropertyName() {
+        assertThatThrownBy(() -> EncryptionKeys.requireAes256Key(PROPERTY, null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(PROPERTY);
+        assertThatThrownBy(() -> EncryptionKeys.requireAes256Key(PROPERTY, " "))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(PROPERTY);
+    }
+
+    @Test
+    void wrongLengthOrEncodingIsRejected() {
+        assertThatThrownBy(() -> EncryptionKeys.requireAes256Key(PROPERTY, Base64.getEncoder().encodeToString(new byte[16])))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("32바이트");
+        assertThatThrownBy(() -> EncryptionKeys.requireAes256Key(PROPERTY, "not base64!"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Base64");
+    }
+}
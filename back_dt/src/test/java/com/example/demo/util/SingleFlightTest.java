@@ -0,0 +1,108 @@
+package com.example.demo.util;
+
+import com.example.demo.dto.exception.CustomException;
+import com.example.demo.dto.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("alice", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "result";
+        }));
+        waitUntil(() -> singleFlight.getShared() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.getExecutions()).isEqualTo(1);
+    }
+
+    @Test
+    void leaderFailureIsPropagatedToFollowers() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitAll(() -> singleFlight.execute("alice", () -> {
+            await(release);
+            throw new IllegalStateException("db down");
+        }));
+        waitUntil(() -> singleFlight.getShared() == CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("db down");
+        }
+        // 실패한 결과는 남지 않으므로 다음 호출은 새로 실행
+        assertThat(singleFlight.execute("alice", () -> "retry")).isEqualTo("retry");
+    }
+
+    @Test
+    void followerWaitIsBounded() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> singleFlight.execute("alice", () -> {
+            await(release);
+            return "slow";
+        }));
+        waitUntil(() -> singleFlight.getExecutions() == 1);
+
+        assertThatThrownBy(() -> singleFlight.execute("alice", () -> "unused"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOOKUP_TIMEOUT));
+        release.countDown();
+    }
+
+    private List<Future<String>> submitAll(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
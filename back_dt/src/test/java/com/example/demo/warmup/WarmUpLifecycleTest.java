@@ -0,0 +1,86 @@
+package com.example.demo.warmup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.servlet.context.ServletWebServerInitializedEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 워밍업이 끝나기 전에는 포트가 열리지 않고 readiness가 ACCEPTING_TRAFFIC이 되지 않는지 검사.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"warmup.enabled=true", "warmup.iterations=50", "warmup.password-iterations=1"})
+@ActiveProfiles("test")
+class WarmUpLifecycleTest {
+
+    @Autowired
+    private StartupObserver observer;
+
+    @Autowired
+    private WarmUpLifecycle warmUpLifecycle;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void webServerAndReadinessWaitForWarmUp() {
+        assertThat(warmUpLifecycle.isCompleted()).isTrue();
+
+        // 포트가 열린 시점에는 워밍업이 끝났고 readiness는 아직 REFUSING_TRAFFIC
+        assertThat(observer.states).containsEntry("webServerStarted.warmUpCompleted", true);
+        assertThat(observer.states).containsEntry("webServerStarted.readiness", ReadinessState.REFUSING_TRAFFIC);
+        // readiness가 ACCEPTING_TRAFFIC으로 바뀔 때도 워밍업이 끝난 상태
+        assertThat(observer.states).containsEntry("acceptingTraffic.warmUpCompleted", true);
+
+        assertThat(restTemplate.getForEntity("/actuator/health/readiness", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        StartupObserver startupObserver(WarmUpLifecycle warmUpLifecycle, ApplicationAvailability availability) {
+            return new StartupObserver(warmUpLifecycle, availability);
+        }
+    }
+
+    static class StartupObserver {
+
+        private final Map<String, Object> states = new ConcurrentHashMap<>();
+        private final WarmUpLifecycle warmUpLifecycle;
+        private final ApplicationAvailability availability;
+
+        StartupObserver(WarmUpLifecycle warmUpLifecycle, ApplicationAvailability availability) {
+            this.warmUpLifecycle = warmUpLifecycle;
+            this.availability = availability;
+        }
+
+        @EventListener
+        void onWebServerStarted(ServletWebServerInitializedEvent event) {
+            states.put("webServerStarted.warmUpCompleted", warmUpLifecycle.isCompleted());
+            states.put("webServerStarted.readiness", availability.getReadinessState());
+        }
+
+        @EventListener
+        void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+            if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                states.put("acceptingTraffic.warmUpCompleted", warmUpLifecycle.isCompleted());
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.demo.web;
+
+import com.example.demo.dto.token.TokenDto;
+import com.fasterxml.jackson.annotation.JsonView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingJackson2HttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new BlackbirdModule())
+            .build();
+    private final CachingJackson2HttpMessageConverter converter = new CachingJackson2HttpMessageConverter(objectMapper);
+
+    @Test
+    void writesSameJsonAsObjectMapperAndCachesWriterPerType() throws Exception {
+        TokenDto token = new TokenDto("Bearer", "access", "refresh", 1234L);
+
+        String first = write(token);
+        String second = write(new TokenDto("Bearer", "other", "refresh", 1L));
+
+        assertThat(first).isEqualTo(objectMapper.writeValueAsString(token));
+        assertThat(second).contains("\"accessToken\":\"other\"");
+        assertThat(converter.getCachedWriterCount()).isEqualTo(1);
+    }
+
+    @Test
+    void containerTypesAndViewsAreNotCached() throws Exception {
+        MockHttpOutputMessage list = new MockHttpOutputMessage();
+        converter.write(List.of(new TokenDto("Bearer", "a", "r", 1L)),
+                new ParameterizedTypeReference<List<TokenDto>>() {}.getType(), MediaType.APPLICATION_JSON, list);
+
+        MappingJacksonValue viewed = new MappingJacksonValue(new Viewed("shown", "hidden"));
+        viewed.setSerializationView(Summary.class);
+        String json = write(viewed);
+
+        assertThat(list.getBodyAsString()).startsWith("[{");
+        assertThat(json).isEqualTo("{\"shown\":\"shown\"}");
+        assertThat(converter.getCachedWriterCount()).isZero();
+    }
+
+    private String write(Object value) throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(value, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsString();
+    }
+
+    interface Summary {
+    }
+
+    record Viewed(@JsonView(Summary.class) String shown, String hidden) {
+    }
+}
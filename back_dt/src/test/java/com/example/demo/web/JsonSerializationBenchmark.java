@@ -0,0 +1,74 @@
+package com.example.demo.web;
+
+import com.example.demo.dto.exception.ErrorCode;
+import com.example.demo.dto.exception.ErrorResponse;
+import com.example.demo.dto.token.IntrospectionResponseDto;
+import com.example.demo.dto.token.TokenDto;
+import com.example.demo.dto.token.TokenIntrospectionDto;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 1건의 직렬화 비용을 기본 컨버터(리플렉션, 응답마다 ObjectWriter 생성)와
+ * 튜닝한 컨버터(Blackbird, 타입별 ObjectWriter 재사용)로 비교하는 벤치마크.
+ * ./gradlew benchmark 로 실행.
+ */
+@Tag("benchmark")
+class JsonSerializationBenchmark {
+
+    private static final int WARMUP = 50_000;
+    private static final int MEASURE = 500_000;
+
+    private final MappingJackson2HttpMessageConverter before =
+            new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+    private final MappingJackson2HttpMessageConverter after = new CachingJackson2HttpMessageConverter(
+            Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build());
+
+    @Test
+    void serialization() throws Exception {
+        TokenDto token = new TokenDto("Bearer", "eyJhbGciOiJIUzUxMiJ9.access", "eyJhbGciOiJIUzUxMiJ9.refresh",
+                System.currentTimeMillis());
+        ErrorResponse error = ErrorResponse.builder()
+                .status(ErrorCode.DUPLICATE_EMAIL.getStatus())
+                .code(ErrorCode.DUPLICATE_EMAIL.getCode())
+                .message(ErrorCode.DUPLICATE_EMAIL.getMessage())
+                .build();
+        List<TokenIntrospectionDto> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(new TokenIntrospectionDto(true, "user" + i, List.of("USER"), System.currentTimeMillis()));
+        }
+        IntrospectionResponseDto introspection = new IntrospectionResponseDto(results, 30);
+
+        report("token", token, MEASURE);
+        report("error", error, MEASURE);
+        report("introspect-100", introspection, MEASURE / 20);
+    }
+
+    private void report(String workload, Object value, int iterations) throws Exception {
+        for (MappingJackson2HttpMessageConverter converter : List.of(before, after)) {
+            run(converter, value, WARMUP);
+        }
+        long beforeNanos = run(before, value, iterations);
+        long afterNanos = run(after, value, iterations);
+        System.out.printf("%-16s before %8.0f ns/op  after %8.0f ns/op  (%.0f%%)%n", workload,
+                (double) beforeNanos / iterations, (double) afterNanos / iterations,
+                100.0 * (beforeNanos - afterNanos) / beforeNanos);
+    }
+
+    private static long run(MappingJackson2HttpMessageConverter converter, Object value, int iterations)
+            throws Exception {
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            converter.write(value, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+        }
+        return System.nanoTime() - start;
+    }
+}